@@ -1,25 +1,33 @@
 package com.mantledillusion.vaadin.cotton;
 
 import com.mantledillusion.essentials.expression.Expression;
-import com.mantledillusion.essentials.reflection.TypeEssentials;
 import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
 import com.mantledillusion.injection.hura.core.annotation.injection.Qualifier;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Optional;
+import com.mantledillusion.metrics.trail.MetricsTrail;
 import com.mantledillusion.metrics.trail.MetricsTrailSupport;
 import com.mantledillusion.metrics.trail.api.Event;
 import com.mantledillusion.metrics.trail.api.Measurement;
 import com.mantledillusion.metrics.trail.api.MeasurementType;
 import com.mantledillusion.vaadin.cotton.exception.http400.Http403UnauthorizedException;
 import com.mantledillusion.vaadin.cotton.metrics.CottonMetrics;
+import com.mantledillusion.vaadin.cotton.metrics.LatencyHistogram;
 import com.mantledillusion.vaadin.cotton.viewpresenter.Restricted;
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.router.BeforeLeaveEvent;
 import com.vaadin.flow.router.BeforeLeaveListener;
+import com.vaadin.flow.router.Location;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 final class AccessHandler implements BeforeLeaveListener {
 
@@ -69,14 +77,20 @@ final class AccessHandler implements BeforeLeaveListener {
         }
     }
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessHandler.class);
+
     static final String SID_NAVIGATION_HANDLER = "_navigationHandler";
 
+    private static final String SID_ASYNC_RESOLUTION = "_asyncUserResolution";
+
     @Inject
     @Qualifier(CottonEnvironment.SID_LOGIN_PROVIDER)
     @Optional
     private LoginProvider provider;
 
     private final Map<String, List<Destination>> forwardingRegistry = new HashMap<>();
+    private final Map<Class<?>, LatencyHistogram> accessCheckLatencies = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LatencyHistogram> userResolutionLatencies = new ConcurrentHashMap<>();
 
     @Construct
     private AccessHandler() {}
@@ -89,8 +103,7 @@ final class AccessHandler implements BeforeLeaveListener {
     private Destination toTarget(Class<? extends Component> navigationTarget, int priority) {
         RestrictionType restrictionType = RestrictionType.NONE;
         List<Expression<String>> restrictions = new ArrayList<>();
-        for (Class<?> type : TypeEssentials.getSuperClassesAnnotatedWith(navigationTarget, Restricted.class)) {
-            Restricted restricted = type.getAnnotation(Restricted.class);
+        for (Restricted restricted : CottonTypeMetadata.of(navigationTarget).getRestrictions()) {
             if (StringUtils.isNotBlank(restricted.value())) {
                 restrictions.add(Expression.parse(restricted.value()));
                 restrictionType = RestrictionType.AUTHORIZATION;
@@ -103,6 +116,14 @@ final class AccessHandler implements BeforeLeaveListener {
 
     @Override
     public void beforeLeave(BeforeLeaveEvent event) {
+        long checkBegin = System.nanoTime();
+        long resolutionNanos = 0;
+        // ONLY THE NAVIGATION RESUMED AFTER AN ASYNCHRONOUS RESOLUTION MIGHT SKIP RESOLVING AGAIN
+        Location resumedLocation = (Location) ComponentUtil.getData(event.getUI(), SID_ASYNC_RESOLUTION);
+        boolean isResolutionAttempted = resumedLocation != null && resumedLocation.getPathWithQueryParameters().
+                equals(event.getLocation().getPathWithQueryParameters());
+        ComponentUtil.setData(event.getUI(), SID_ASYNC_RESOLUTION, null);
+
         if (this.provider != null && this.provider.loginView != null &&
                 this.provider.loginView == event.getNavigationTarget()) {
             return;
@@ -123,10 +144,28 @@ final class AccessHandler implements BeforeLeaveListener {
         AuthenticationHandler authenticationHandler = CottonSession.current().getAuthenticationHandler();
         if (isAuthenticationDesirable && !authenticationHandler.isLoggedIn()) {
             if (this.provider.userProvider != null && (this.provider.userProvider.isSilent() || isAuthenticationNecessary)) {
+                long resolutionBegin = System.nanoTime();
                 User user = this.provider.userProvider.provide();
+                resolutionNanos = System.nanoTime() - resolutionBegin;
+                LatencyHistogram histogram = this.userResolutionLatencies.
+                        computeIfAbsent(event.getNavigationTarget(), type -> new LatencyHistogram());
+                histogram.record(resolutionNanos);
+                MetricsTrailSupport.commit(CottonMetrics.SECURITY_USER_RESOLUTION.build(
+                        new Measurement("outcome", user == null ? "UNRESOLVED" : "RESOLVED", MeasurementType.STRING),
+                        toMicros("duration", resolutionNanos),
+                        new Measurement("user", user == null ? null : user.toString(), MeasurementType.STRING),
+                        new Measurement("simpleName", event.getNavigationTarget().getSimpleName(), MeasurementType.STRING),
+                        new Measurement("name", event.getNavigationTarget().getName(), MeasurementType.STRING),
+                        toMicros("durationP50", histogram.getPercentile(50)),
+                        toMicros("durationP99", histogram.getPercentile(99)),
+                        toMicros("durationMax", histogram.getMax())));
                 if (user != null) {
                     authenticationHandler.login(user);
                 }
+            } else if (this.provider.asyncUserProvider != null && !isResolutionAttempted &&
+                    (this.provider.asyncUserProvider.isSilent() || isAuthenticationNecessary)) {
+                resolveAsync(event);
+                return;
             } else if (this.provider.loginView != null && isAuthenticationNecessary) {
                 event.rerouteTo(this.provider.loginView);
                 return;
@@ -143,12 +182,21 @@ final class AccessHandler implements BeforeLeaveListener {
             }
         }
 
+        long checkNanos = System.nanoTime() - checkBegin - resolutionNanos;
+        LatencyHistogram histogram = this.accessCheckLatencies.
+                computeIfAbsent(event.getNavigationTarget(), type -> new LatencyHistogram());
+        histogram.record(checkNanos);
+
         if (destination == null) {
             MetricsTrailSupport.commit(CottonMetrics.SECURITY_ACCESS_DENIED.build(
                     new Measurement("simpleName", event.getNavigationTarget().getSimpleName(), MeasurementType.STRING),
                     new Measurement("name", event.getNavigationTarget().getName(), MeasurementType.STRING),
                     new Measurement("user", authenticationHandler.isLoggedIn() ?
-                            authenticationHandler.getUser().toString() : null, MeasurementType.STRING)));
+                            authenticationHandler.getUser().toString() : null, MeasurementType.STRING),
+                    toMicros("checkDuration", checkNanos),
+                    toMicros("checkDurationP50", histogram.getPercentile(50)),
+                    toMicros("checkDurationP99", histogram.getPercentile(99)),
+                    toMicros("checkDurationMax", histogram.getMax())));
 
             event.rerouteToError(new Http403UnauthorizedException("Access to the view '"
                     + event.getNavigationTarget().getSimpleName() + "' is restricted"), null);
@@ -157,7 +205,11 @@ final class AccessHandler implements BeforeLeaveListener {
                 MetricsTrailSupport.commit(CottonMetrics.SECURITY_ACCESS_GRANTED.build(
                         new Measurement("simpleName", event.getNavigationTarget().getSimpleName(), MeasurementType.STRING),
                         new Measurement("name", event.getNavigationTarget().getName(), MeasurementType.STRING),
-                        new Measurement("user", authenticationHandler.getUser().toString(), MeasurementType.STRING)));
+                        new Measurement("user", authenticationHandler.getUser().toString(), MeasurementType.STRING),
+                        toMicros("checkDuration", checkNanos),
+                        toMicros("checkDurationP50", histogram.getPercentile(50)),
+                        toMicros("checkDurationP99", histogram.getPercentile(99)),
+                        toMicros("checkDurationMax", histogram.getMax())));
             }
             if (event.getNavigationTarget() != destination.getNavigationTarget()) {
                 event.forwardTo(destination.getNavigationTarget());
@@ -175,6 +227,99 @@ final class AccessHandler implements BeforeLeaveListener {
         }
     }
 
+    private void resolveAsync(BeforeLeaveEvent event) {
+        UI ui = event.getUI();
+        Class<?> navigationTarget = event.getNavigationTarget();
+        Location location = event.getLocation();
+        MetricsTrail trail = MetricsTrailSupport.has() ? MetricsTrailSupport.get() : null;
+        BeforeLeaveEvent.ContinueNavigationAction postponement = event.postpone();
+
+        // RESOLVE OUTSIDE OF THE SESSION LOCK, GIVING UP AFTER THE TIMEOUT
+        long resolutionBegin = System.nanoTime();
+        CompletableFuture<User> resolution = new CompletableFuture<>();
+        CompletableFuture<User> provision;
+        try {
+            provision = this.provider.asyncUserProvider.provide();
+        } catch (RuntimeException e) {
+            provision = new CompletableFuture<>();
+            provision.completeExceptionally(e);
+        }
+        provision.whenComplete((user, t) -> {
+            if (t == null) {
+                resolution.complete(user);
+            } else {
+                resolution.completeExceptionally(t);
+            }
+        });
+        CompletableFuture<User> timedProvision = provision;
+        // THE SHARED SCHEDULER IS ONLY USED FOR TIMING; COMPLETING THE RESOLUTION LOCKS THE SESSION TO RESUME
+        ScheduledFuture<?> timeout = CottonServletService.current().getScheduler().schedule(() ->
+                CottonExecutors.background().execute(() -> {
+                    if (resolution.completeExceptionally(new TimeoutException())) {
+                        timedProvision.cancel(true);
+                    }
+                }), this.provider.asyncTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        // RESUME THE NAVIGATION INSIDE OF THE SESSION LOCK
+        resolution.whenComplete((user, t) -> {
+            timeout.cancel(false);
+            long resolutionNanos = System.nanoTime() - resolutionBegin;
+            LatencyHistogram histogram = this.userResolutionLatencies.
+                    computeIfAbsent(navigationTarget, type -> new LatencyHistogram());
+            histogram.record(resolutionNanos);
+            String outcome;
+            if (t == null) {
+                outcome = user == null ? "UNRESOLVED" : "RESOLVED";
+            } else if (t instanceof TimeoutException) {
+                outcome = "TIMEOUT";
+            } else {
+                outcome = "FAILED";
+                LOGGER.warn("Asynchronous resolution of the user to login failed", t);
+            }
+
+            try {
+                ui.access(() -> {
+                    boolean bindTrail = trail != null && !MetricsTrailSupport.has();
+                    if (bindTrail) {
+                        MetricsTrailSupport.bind(trail);
+                    }
+                    try {
+                        MetricsTrailSupport.commit(CottonMetrics.SECURITY_USER_RESOLUTION.build(
+                                new Measurement("outcome", outcome, MeasurementType.STRING),
+                                toMicros("duration", resolutionNanos),
+                                new Measurement("user", user == null ? null : user.toString(), MeasurementType.STRING),
+                                new Measurement("simpleName", navigationTarget.getSimpleName(), MeasurementType.STRING),
+                                new Measurement("name", navigationTarget.getName(), MeasurementType.STRING),
+                                toMicros("durationP50", histogram.getPercentile(50)),
+                                toMicros("durationP99", histogram.getPercentile(99)),
+                                toMicros("durationMax", histogram.getMax())));
+
+                        AuthenticationHandler authenticationHandler = CottonSession.current().getAuthenticationHandler();
+                        if (user != null && !authenticationHandler.isLoggedIn()) {
+                            authenticationHandler.login(user);
+                        }
+
+                        // EVERY NAVIGATION BEGUN MEANWHILE HAS DISCARDED THE POSTPONEMENT; THE USER HAS MOVED ON THEN
+                        if (ui.getInternals().getContinueNavigationAction() == postponement) {
+                            ComponentUtil.setData(ui, SID_ASYNC_RESOLUTION, location);
+                            ui.navigate(location.getPath(), location.getQueryParameters());
+                        }
+                    } finally {
+                        if (bindTrail) {
+                            MetricsTrailSupport.release();
+                        }
+                    }
+                });
+            } catch (UIDetachedException e) {
+                // THE UI HAS BEEN CLOSED WHILE RESOLVING; THERE IS NO NAVIGATION TO RESUME
+            }
+        });
+    }
+
+    private static Measurement toMicros(String name, long nanos) {
+        return new Measurement(name, String.valueOf(TimeUnit.NANOSECONDS.toMicros(nanos)), MeasurementType.LONG);
+    }
+
     private static Map<String, String> fromParamAppender(String query) {
         Map<String, String> params = new HashMap<>();
         for (String param : query.split("&")) {
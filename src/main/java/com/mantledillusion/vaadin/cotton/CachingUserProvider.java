@@ -0,0 +1,356 @@
+package com.mantledillusion.vaadin.cotton;
+
+import com.mantledillusion.vaadin.cotton.exception.http900.Http901IllegalArgumentException;
+import com.mantledillusion.vaadin.cotton.exception.http900.Http902IllegalStateException;
+import com.vaadin.flow.server.VaadinRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link LoginProvider.UserProvider} that resolves {@link User}s by a token carried by the current request (a cookie,
+ * header or such) and caches the resolved {@link User}s by that token.
+ * <p>
+ * Cached {@link User}s expire after a time to live and the cache is limited to a maximum size, evicting the least
+ * recently used tokens first. Optionally, a refresh ahead time can be set, after which a cached {@link User} is still
+ * provided but re-resolved asynchronously, so repeated navigations rarely ever have to wait for the resolution.
+ * <p>
+ * Concurrent requests carrying the same uncached token share a single resolution.
+ * <p>
+ * Use {@link #of(TokenExtractor, TokenResolver)} for instantiation, or {@link #of(TokenExtractor, LoginProvider.UserProvider)}
+ * to put the cache in front of an existing {@link LoginProvider.UserProvider}.
+ */
+public final class CachingUserProvider implements LoginProvider.UserProvider {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CachingUserProvider.class);
+
+	/**
+	 * Extractor for the token to resolve a {@link User} by from a request.
+	 */
+	public interface TokenExtractor {
+
+		/**
+		 * Extracts the token from the given request.
+		 *
+		 * @param request The request to extract from; might <b>not</b> be null.
+		 * @return The token, might be null if the request does not carry one
+		 */
+		String extract(VaadinRequest request);
+	}
+
+	/**
+	 * Resolver for {@link User} instances by a token.
+	 */
+	public interface TokenResolver {
+
+		/**
+		 * Resolves the {@link User} identified by the given token.
+		 * <p>
+		 * Might be called by a background thread when refreshing ahead, so it must not rely on the current session.
+		 *
+		 * @param token The token to resolve; might <b>not</b> be null.
+		 * @return A {@link User} instance, might be null if the token is not valid
+		 */
+		User resolve(String token);
+	}
+
+	private static final class CacheEntry {
+
+		private final User user;
+		private final long resolvedAt;
+		private boolean refreshing;
+
+		private CacheEntry(User user, long resolvedAt) {
+			this.user = user;
+			this.resolvedAt = resolvedAt;
+		}
+	}
+
+	private final TokenExtractor extractor;
+	private final TokenResolver resolver;
+	private final LoginProvider.UserProvider delegate;
+	private final Map<String, CacheEntry> cache;
+	private final Map<String, CompletableFuture<User>> resolutions = new HashMap<>();
+
+	private long timeToLive = Duration.ofMinutes(5).toNanos();
+	private long refreshAhead = 0;
+	private int maxSize = 1000;
+	private Executor refreshExecutor = CottonExecutors.background();
+	private LongSupplier clock = System::nanoTime;
+
+	private CachingUserProvider(TokenExtractor extractor, TokenResolver resolver, LoginProvider.UserProvider delegate) {
+		this.extractor = extractor;
+		this.resolver = resolver;
+		this.delegate = delegate;
+		this.cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+				return size() > CachingUserProvider.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Builder method, sets the time after which a cached {@link User} is discarded and has to be resolved again.
+	 * <p>
+	 * The default time to live is 5 minutes.
+	 *
+	 * @param timeToLive The time to live; might <b>not</b> be null, has to be positive.
+	 * @return this
+	 */
+	public CachingUserProvider withTimeToLive(Duration timeToLive) {
+		if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+			throw new Http901IllegalArgumentException("Cannot set a null or non-positive time to live");
+		}
+		this.timeToLive = timeToLive.toNanos();
+		return this;
+	}
+
+	/**
+	 * Builder method, sets the time after which a cached {@link User} is still provided, but resolved again in the
+	 * background.
+	 * <p>
+	 * Should be shorter than the time to live to have an effect; by default, refreshing ahead is disabled.
+	 * <p>
+	 * Not available when caching in front of a {@link LoginProvider.UserProvider}, as that can only provide
+	 * {@link User}s during the request carrying the token.
+	 *
+	 * @param refreshAhead The time after which to refresh; might be null to disable refreshing ahead.
+	 * @return this
+	 */
+	public CachingUserProvider withRefreshAhead(Duration refreshAhead) {
+		if (refreshAhead != null && (refreshAhead.isNegative() || refreshAhead.isZero())) {
+			throw new Http901IllegalArgumentException("Cannot set a non-positive refresh ahead time");
+		} else if (refreshAhead != null && this.delegate != null) {
+			throw new Http902IllegalStateException("Cannot refresh ahead in front of a user provider, as it can only "
+					+ "provide users during a request");
+		}
+		this.refreshAhead = refreshAhead == null ? 0 : refreshAhead.toNanos();
+		return this;
+	}
+
+	/**
+	 * Builder method, sets the {@link Executor} to refresh cached {@link User}s ahead with.
+	 * <p>
+	 * By default, Cotton's background executor is used, which runs on virtual threads where the runtime supports them.
+	 *
+	 * @param refreshExecutor The executor to use; might <b>not</b> be null.
+	 * @return this
+	 */
+	public CachingUserProvider withRefreshExecutor(Executor refreshExecutor) {
+		if (refreshExecutor == null) {
+			throw new Http901IllegalArgumentException("Cannot refresh using a null executor");
+		}
+		this.refreshExecutor = refreshExecutor;
+		return this;
+	}
+
+	/**
+	 * Builder method, sets the maximum count of tokens to cache {@link User}s for.
+	 * <p>
+	 * The default maximum size is 1000.
+	 *
+	 * @param maxSize The maximum size; has to be positive.
+	 * @return this
+	 */
+	public CachingUserProvider withMaxSize(int maxSize) {
+		if (maxSize < 1) {
+			throw new Http901IllegalArgumentException("Cannot set a non-positive maximum cache size");
+		}
+		synchronized (this.cache) {
+			this.maxSize = maxSize;
+		}
+		return this;
+	}
+
+	CachingUserProvider withClock(LongSupplier clock) {
+		this.clock = clock;
+		return this;
+	}
+
+	/**
+	 * Discards the cached {@link User} of the given token, for example after the {@link User} logged out.
+	 *
+	 * @param token The token to discard; might be null.
+	 */
+	public void invalidate(String token) {
+		synchronized (this.cache) {
+			this.cache.remove(token);
+			this.resolutions.remove(token);
+		}
+	}
+
+	/**
+	 * Discards all cached {@link User}s.
+	 */
+	public void invalidateAll() {
+		synchronized (this.cache) {
+			this.cache.clear();
+			this.resolutions.clear();
+		}
+	}
+
+	@Override
+	public User provide() {
+		VaadinRequest request = VaadinRequest.getCurrent();
+		return provide(request == null ? null : this.extractor.extract(request));
+	}
+
+	User provide(String token) {
+		if (token == null) {
+			return null;
+		}
+
+		long now = this.clock.getAsLong();
+		CacheEntry entry;
+		boolean refresh = false;
+		CompletableFuture<User> resolution = null;
+		boolean resolving = false;
+		synchronized (this.cache) {
+			entry = this.cache.get(token);
+			if (entry != null && now - entry.resolvedAt >= this.timeToLive) {
+				this.cache.remove(token);
+				entry = null;
+			} else if (entry != null && this.refreshAhead > 0 && !entry.refreshing
+					&& now - entry.resolvedAt >= this.refreshAhead) {
+				entry.refreshing = refresh = true;
+			}
+
+			// CONCURRENT MISSES OF THE SAME TOKEN WAIT FOR THE RESOLUTION THAT IS ALREADY IN FLIGHT
+			if (entry == null) {
+				resolution = this.resolutions.get(token);
+				if (resolution == null) {
+					resolution = new CompletableFuture<>();
+					this.resolutions.put(token, resolution);
+					resolving = true;
+				}
+			}
+		}
+
+		if (resolving) {
+			return resolve(token, resolution);
+		} else if (resolution != null) {
+			try {
+				return resolution.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				} else if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+				throw e;
+			}
+		} else if (refresh) {
+			CacheEntry staleEntry = entry;
+			try {
+				this.refreshExecutor.execute(() -> refresh(token, staleEntry));
+			} catch (RuntimeException e) {
+				LOGGER.warn("Unable to schedule refreshing the user of a cached token ahead", e);
+				synchronized (this.cache) {
+					staleEntry.refreshing = false;
+				}
+			}
+		}
+		return entry.user;
+	}
+
+	private User resolve(String token, CompletableFuture<User> resolution) {
+		User user;
+		try {
+			user = this.resolver.resolve(token);
+		} catch (RuntimeException | Error e) {
+			synchronized (this.cache) {
+				this.resolutions.remove(token, resolution);
+			}
+			resolution.completeExceptionally(e);
+			throw e;
+		}
+
+		synchronized (this.cache) {
+			// THE TOKEN MIGHT HAVE BEEN INVALIDATED WHILE RESOLVING
+			if (this.resolutions.remove(token, resolution) && user != null) {
+				this.cache.put(token, new CacheEntry(user, this.clock.getAsLong()));
+			}
+		}
+		resolution.complete(user);
+		return user;
+	}
+
+	private void refresh(String token, CacheEntry staleEntry) {
+		try {
+			User user = this.resolver.resolve(token);
+			synchronized (this.cache) {
+				if (this.cache.get(token) == staleEntry) {
+					if (user == null) {
+						this.cache.remove(token);
+					} else {
+						this.cache.put(token, new CacheEntry(user, this.clock.getAsLong()));
+					}
+				}
+			}
+		} catch (RuntimeException e) {
+			LOGGER.warn("Unable to refresh the user of a cached token ahead; keeping the cached user until it expires", e);
+		} finally {
+			// A STALE ENTRY STILL CACHED AFTER A FAILED REFRESH HAS TO BE REFRESHABLE AGAIN
+			synchronized (this.cache) {
+				staleEntry.refreshing = false;
+			}
+		}
+	}
+
+	/**
+	 * Resolving {@link User}s by a token never involves the client, so it is silent unless the cache is put in front
+	 * of a {@link LoginProvider.UserProvider} that is not.
+	 *
+	 * @return True if the resolution is silent, false otherwise
+	 */
+	@Override
+	public boolean isSilent() {
+		return this.delegate == null || this.delegate.isSilent();
+	}
+
+	/**
+	 * Factory method for creating a {@link CachingUserProvider}.
+	 *
+	 * @param extractor The extractor to retrieve the token from a request with; might <b>not</b> be null.
+	 * @param resolver The resolver to resolve a {@link User} by its token with; might <b>not</b> be null.
+	 * @return A new {@link CachingUserProvider}, never null
+	 */
+	public static CachingUserProvider of(TokenExtractor extractor, TokenResolver resolver) {
+		if (extractor == null) {
+			throw new Http901IllegalArgumentException("Cannot create a caching user provider from a null token extractor");
+		} else if (resolver == null) {
+			throw new Http901IllegalArgumentException("Cannot create a caching user provider from a null token resolver");
+		}
+		return new CachingUserProvider(extractor, resolver, null);
+	}
+
+	/**
+	 * Factory method for creating a {@link CachingUserProvider} in front of an existing
+	 * {@link LoginProvider.UserProvider}.
+	 * <p>
+	 * On a cache miss, the given provider is called during the request carrying the token; the {@link User} it
+	 * provides is then cached by that token. Since the provider relies on the request, refreshing ahead is not available.
+	 *
+	 * @param extractor The extractor to retrieve the token from a request with; might <b>not</b> be null.
+	 * @param delegate The provider to provide {@link User}s on cache misses with; might <b>not</b> be null.
+	 * @return A new {@link CachingUserProvider}, never null
+	 */
+	public static CachingUserProvider of(TokenExtractor extractor, LoginProvider.UserProvider delegate) {
+		if (extractor == null) {
+			throw new Http901IllegalArgumentException("Cannot create a caching user provider from a null token extractor");
+		} else if (delegate == null) {
+			throw new Http901IllegalArgumentException("Cannot create a caching user provider from a null user provider");
+		}
+		return new CachingUserProvider(extractor, token -> delegate.provide(), delegate);
+	}
+}
@@ -0,0 +1,178 @@
+package com.mantledillusion.vaadin.cotton;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class CottonClassFileScanner {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACEMETHODREF = 11;
+    private static final int CONSTANT_NAMEANDTYPE = 12;
+    private static final int CONSTANT_METHODHANDLE = 15;
+    private static final int CONSTANT_METHODTYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKEDYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    // SUPER CLASSES OF THESE PACKAGES NEVER PASS ON ANY OF THE ANNOTATIONS THE SCANNER IS USED FOR
+    private static final byte[][] PLATFORM_PATHS = {
+            "java/".getBytes(StandardCharsets.UTF_8),
+            "javax/".getBytes(StandardCharsets.UTF_8),
+            "com/vaadin/".getBytes(StandardCharsets.UTF_8)
+    };
+    private static final int PLATFORM_PATH_LENGTH = Arrays.stream(PLATFORM_PATHS).mapToInt(path -> path.length).max().orElse(0);
+
+    private final byte[][] descriptors;
+
+    CottonClassFileScanner(Class<?>... annotationTypes) {
+        this.descriptors = Arrays.stream(annotationTypes)
+                .map(type -> ('L' + type.getName().replace('.', '/') + ';').getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+    }
+
+    /**
+     * Determines whether the class of the given class file might be annotated with any of the scanner's annotation
+     * types, without loading the class.
+     * <p>
+     * Annotations that are declared on a class are always referenced by its own constant pool, so a class not
+     * referencing any of the descriptors cannot declare them. @{@link java.lang.annotation.Inherited} annotations might
+     * however be present on a class without being declared by it, anywhere up its hierarchy. So every class is a
+     * candidate as well whose direct super class does not belong to the Java or Vaadin platform, as only those are
+     * certain not to pass on any of the annotations.
+     * <p>
+     * The opposite does not apply: the annotations might also be used on members, or the descriptors might just occur
+     * as strings.
+     *
+     * @param classFile The class file to scan; might <b>not</b> be null.
+     * @return True if the class file might be annotated, false if it is certainly not
+     * @throws IOException If reading the class file fails
+     */
+    boolean isCandidate(InputStream classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+        if (in.readInt() != MAGIC) {
+            return false;
+        }
+        in.skipBytes(4);
+
+        int constantPoolCount = in.readUnsignedShort();
+        int[] classNameIndices = new int[constantPoolCount];
+        boolean[] isPlatformPath = new boolean[constantPoolCount];
+        for (int index = 1; index < constantPoolCount; index++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    int length = in.readUnsignedShort();
+                    if (matchesLength(length)) {
+                        byte[] utf8 = new byte[length];
+                        in.readFully(utf8);
+                        if (matches(utf8)) {
+                            return true;
+                        }
+                        isPlatformPath[index] = isPlatformPath(utf8);
+                    } else {
+                        // THE PREFIX IS ENOUGH TO TELL WHETHER A CLASS NAME BELONGS TO THE PLATFORM
+                        byte[] prefix = new byte[Math.min(length, PLATFORM_PATH_LENGTH)];
+                        in.readFully(prefix);
+                        isPlatformPath[index] = isPlatformPath(prefix);
+                        skip(in, length - prefix.length);
+                    }
+                    break;
+                case CONSTANT_CLASS:
+                    classNameIndices[index] = in.readUnsignedShort();
+                    break;
+                case CONSTANT_STRING:
+                case CONSTANT_METHODTYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skip(in, 2);
+                    break;
+                case CONSTANT_METHODHANDLE:
+                    skip(in, 3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACEMETHODREF:
+                case CONSTANT_NAMEANDTYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKEDYNAMIC:
+                    skip(in, 4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    // 8 BYTE CONSTANTS TAKE UP 2 ENTRIES OF THE POOL
+                    skip(in, 8);
+                    index++;
+                    break;
+                default:
+                    // UNKNOWN CLASS FILE FORMAT; LET THE CLASS BE LOADED TO BE SURE
+                    return true;
+            }
+        }
+
+        // ACCESS FLAGS AND THIS CLASS ARE FOLLOWED BY THE SUPER CLASS, WHICH MIGHT PASS ON INHERITED ANNOTATIONS
+        skip(in, 4);
+        int superClassIndex = in.readUnsignedShort();
+        return superClassIndex > 0 && superClassIndex < constantPoolCount
+                && !isPlatformPath[classNameIndices[superClassIndex]];
+    }
+
+    private static boolean isPlatformPath(byte[] utf8) {
+        pathLoop: for (byte[] path: PLATFORM_PATHS) {
+            if (utf8.length >= path.length) {
+                for (int i = 0; i < path.length; i++) {
+                    if (utf8[i] != path[i]) {
+                        continue pathLoop;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesLength(int length) {
+        for (byte[] descriptor: this.descriptors) {
+            if (descriptor.length == length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(byte[] utf8) {
+        for (byte[] descriptor: this.descriptors) {
+            if (Arrays.equals(descriptor, utf8)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void skip(DataInputStream in, int bytes) throws IOException {
+        while (bytes > 0) {
+            int skipped = in.skipBytes(bytes);
+            if (skipped <= 0) {
+                in.readByte();
+                skipped = 1;
+            }
+            bytes -= skipped;
+        }
+    }
+}
@@ -11,9 +11,11 @@ import com.mantledillusion.metrics.trail.MetricsConsumer;
 import com.mantledillusion.metrics.trail.MetricsPredicate;
 import com.mantledillusion.metrics.trail.MetricsTrailConsumer;
 import com.mantledillusion.vaadin.cotton.exception.http900.Http901IllegalArgumentException;
+import com.mantledillusion.vaadin.cotton.exception.http900.Http902IllegalStateException;
 import com.mantledillusion.vaadin.cotton.viewpresenter.Responsive;
 import com.mantledillusion.vaadin.cotton.viewpresenter.Restricted;
 import org.apache.commons.collections4.SetUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.nio.charset.Charset;
@@ -33,6 +35,7 @@ public final class CottonEnvironment {
 
     static final String PKEY_APPLICATION_BASE_PACKAGE = "cotton.application.basePackage";
     static final String PKEY_AUTOMATIC_ROUTE_DISCOVERY = "cotton.application.automaticRouteDiscovery";
+    static final String PKEY_TRAINING_RUN = "cotton.application.trainingRun";
 
     /**
      * Builds a {@link Blueprint.PropertyAllocation} that can @{@link Define} the application's base package. By
@@ -65,6 +68,31 @@ public final class CottonEnvironment {
         return Blueprint.PropertyAllocation.of(PKEY_AUTOMATIC_ROUTE_DISCOVERY, Boolean.toString(discoverRoutesAutomatically));
     }
 
+    /**
+     * Builds a {@link Blueprint.PropertyAllocation} that can @{@link Define} whether the application should perform a
+     * training run for creating a class data sharing archive.
+     * <p>
+     * During a training run, the {@link CottonServlet} starts up as usual, then initializes the classes of all views
+     * that are routed to (including the alternatives of @{@link Responsive} views) and loads all localizations. Views
+     * are never instantiated, so no application code runs outside of a session.
+     * <p>
+     * Cotton does not exit the JVM; the application's launcher is expected to stop the application once the
+     * {@link CottonServlet} has been initialized. Started with -XX:ArchiveClassesAtExit=[archive].jsa (Java 13+), the
+     * JVM then writes an archive of all classes loaded, which subsequent starts can use with
+     * -XX:SharedArchiveFile=[archive].jsa.
+     * <p>
+     * Instead of by this allocation, the training run can also be enabled using the system property
+     * -D{@value #PKEY_TRAINING_RUN}=true, so the same application can be used for training and serving.
+     * <p>
+     * By default, this option is disabled.
+     *
+     * @param trainingRun True to perform a training run, false otherwise.
+     * @return The {@link Blueprint.Allocation} for the application's environment {@link Blueprint}, never null
+     */
+    public static Blueprint.PropertyAllocation forTrainingRun(boolean trainingRun) {
+        return Blueprint.PropertyAllocation.of(PKEY_TRAINING_RUN, Boolean.toString(trainingRun));
+    }
+
     // #################################################################################################################
     // ################################################## LOGIN ########################################################
     // #################################################################################################################
@@ -91,15 +119,75 @@ public final class CottonEnvironment {
     // #################################################################################################################
 
     static final String PKEY_DEFAULT_LOCALE = "cotton.localization.defaultLocale";
+    static final String PKEY_LAZY_LOCALIZATION = "cotton.localization.lazy";
 
     static final class LocalizationRegistration {
 
+        final String baseName;
+        final String fileExtension;
         final Locale locale;
-        final Set<String> bundleKeys;
-        final ResourceBundle bundle;
+        private final Localizer.LocalizationControl control;
+        private final LocalizationRegistration reference;
 
-        private LocalizationRegistration(Locale locale, Set<String> bundleKeys, ResourceBundle bundle) {
+        private ResourceBundle bundle;
+        private Set<String> bundleKeys;
+
+        private LocalizationRegistration(String baseName, String fileExtension, Locale locale,
+                                         Localizer.LocalizationControl control, LocalizationRegistration reference) {
+            this.baseName = baseName;
+            this.fileExtension = fileExtension;
             this.locale = locale;
+            this.control = control;
+            this.reference = reference;
+        }
+
+        boolean isReference() {
+            return this.reference == null;
+        }
+
+        synchronized boolean isLoaded() {
+            return this.bundle != null;
+        }
+
+        synchronized ResourceBundle getBundle() {
+            load();
+            return this.bundle;
+        }
+
+        synchronized Set<String> getBundleKeys() {
+            load();
+            return this.bundleKeys;
+        }
+
+        synchronized void load() {
+            if (this.bundle != null) {
+                return;
+            }
+
+            ResourceBundle bundle;
+            try {
+                bundle = ResourceBundle.getBundle(this.baseName, this.locale, this.control);
+            } catch (MissingResourceException e) {
+                throw new Http901IllegalArgumentException(
+                        "Unable to find localization class resource '" + this.baseName + '_'
+                                + Localizer.toLang(this.locale) + '.' + this.fileExtension + "' for locale " + this.locale,
+                        e);
+            }
+            Set<String> bundleKeys = new HashSet<>(Collections.list(bundle.getKeys()));
+
+            // ALL LOCALES OF THE SAME BASE NAME ARE COMPARED TO THE FIRST ONE REGISTERED
+            if (this.reference != null) {
+                Set<String> difference = SetUtils.disjunction(this.reference.getBundleKeys(), bundleKeys);
+                if (!difference.isEmpty()) {
+                    throw new Http901IllegalArgumentException(
+                            "The localization resource '" + this.baseName + '_' + Localizer.toLang(this.locale) + '.'
+                                    + this.fileExtension + "' for locale " + this.locale
+                                    + " differs from the resource of the locale " + this.reference.locale
+                                    + " regarding the message ids " + difference
+                                    + "; on differently localed resources of the same base resource, all message id sets have to be equal.");
+                }
+            }
+
             this.bundleKeys = bundleKeys;
             this.bundle = bundle;
         }
@@ -133,6 +221,11 @@ public final class CottonEnvironment {
      * For the above example, this method would have to be called twice:<br>
      * - forLocalization("foo", "properties", Charset.forName("UTF-8"), Locale.ENGLISH, Locale.GERMAN);<br>
      * - forLocalization("bar", "properties", Charset.forName("UTF-8"), Locale.ENGLISH, Locale.GERMAN);<br>
+     * <p>
+     * The resource files are only checked for existence here; they are parsed in parallel when the servlet starts up,
+     * or on first use for non-default {@link Locale}s if {@link #forLazyLocalization(boolean)} is enabled. A resource
+     * file parsed at startup whose message ids differ from the ones of the first {@link Locale} fails the servlet's
+     * startup with an {@link Http902IllegalStateException}.
      *
      * @param baseName      The base name of the resource file set; might <b>not</b> be null or empty.
      * @param fileExtension The file extension of the resource file set; might <b>not</b> be null or empty.
@@ -160,54 +253,54 @@ public final class CottonEnvironment {
         List<Blueprint.SingletonAllocation> registrations = new ArrayList<>();
 
         Localizer.LocalizationControl control = new Localizer.LocalizationControl(charset, fileExtension);
-        Set<Locale> uniqueLocales = new HashSet<>();
+        Set<Locale> uniqueLocales = new LinkedHashSet<>();
         uniqueLocales.add(locale);
-        uniqueLocales.addAll(Arrays.asList(locales));
+        uniqueLocales.addAll(Arrays.asList(ObjectUtils.defaultIfNull(locales, new Locale[0])));
         uniqueLocales.remove(null);
 
-        Set<Locale> addedLocales = new HashSet<>();
-        Set<String> expectedBundleKeys = new HashSet<>();
+        ClassLoader classLoader = CottonEnvironment.class.getClassLoader();
+        LocalizationRegistration reference = null;
         for (Locale loc : uniqueLocales) {
-            if (loc != null) {
-                Localizer.checkLocale(loc);
+            Localizer.checkLocale(loc);
 
-                loc = new Locale(loc.getLanguage(), loc.getCountry());
-
-                ResourceBundle bundle;
-                try {
-                    bundle = ResourceBundle.getBundle(baseName, loc, control);
-                } catch (MissingResourceException e) {
-                    throw new Http901IllegalArgumentException(
-                            "Unable to find localization class resource '" + baseName + '_' + Localizer.toLang(loc) + '.'
-                                    + fileExtension + "' for locale " + loc,
-                            e);
-                }
+            loc = new Locale(loc.getLanguage(), loc.getCountry());
 
-                Set<String> bundleKeys = new HashSet<>(Collections.list(bundle.getKeys()));
-                if (addedLocales.isEmpty()) {
-                    addedLocales.add(loc);
-                    expectedBundleKeys.addAll(bundleKeys);
-                } else {
-                    Set<String> difference = SetUtils.disjunction(expectedBundleKeys, bundleKeys);
-                    if (difference.isEmpty()) {
-                        addedLocales.add(loc);
-                    } else {
-                        throw new Http901IllegalArgumentException(
-                                "The localization resource '" + baseName + '_' + Localizer.toLang(loc) + '.'
-                                        + fileExtension + "' for locale " + loc
-                                        + " differs from the resources of the already analyzed locales " + addedLocales
-                                        + " regarding the message ids " + difference
-                                        + "; on differently localed resources of the same base resource, all message id sets have to be equal.");
-                    }
-                }
-
-                registrations.add(Blueprint.SingletonAllocation.allocateToInstance(new LocalizationRegistration(loc, bundleKeys, bundle)));
+            // ONLY CHECK FOR THE RESOURCE; PARSING IT IS UP TO THE SERVLET'S STARTUP OR THE FIRST USE
+            String resourceName = control.toResourceName(control.toBundleName(baseName, loc), fileExtension);
+            if (classLoader.getResource(resourceName) == null) {
+                throw new Http901IllegalArgumentException(
+                        "Unable to find localization class resource '" + baseName + '_' + Localizer.toLang(loc) + '.'
+                                + fileExtension + "' for locale " + loc);
             }
+
+            LocalizationRegistration registration = new LocalizationRegistration(baseName, fileExtension, loc, control, reference);
+            reference = reference == null ? registration : reference;
+            registrations.add(Blueprint.SingletonAllocation.allocateToInstance(registration));
         }
 
         return registrations;
     }
 
+    /**
+     * Builds a {@link Blueprint.PropertyAllocation} that can @{@link Define} whether the resource files registered
+     * using {@link #forLocalization(String, String, Charset, Locale, Locale...)} should only be loaded for the default
+     * {@link Locale} (and the first {@link Locale} of every registration) when the servlet starts up, while all other
+     * {@link Locale}s are loaded when the first session in their language requires them.
+     * <p>
+     * Lazy loading shortens the startup of applications with many languages; however, resource files that differ in
+     * their message ids are then only detected on their first use. Such a resource file is reported once and left out,
+     * so its messages are not localized for that {@link Locale}; with lazy loading disabled, it fails the servlet's
+     * startup instead.
+     * <p>
+     * By default, this option is disabled.
+     *
+     * @param lazy True to enable lazy loading, false otherwise.
+     * @return The {@link Blueprint.Allocation} for the application's environment {@link Blueprint}, never null
+     */
+    public static Blueprint.PropertyAllocation forLazyLocalization(boolean lazy) {
+        return Blueprint.PropertyAllocation.of(PKEY_LAZY_LOCALIZATION, Boolean.toString(lazy));
+    }
+
     // #################################################################################################################
     // ############################################# ERROR HANDLING ####################################################
     // #################################################################################################################
@@ -314,6 +407,23 @@ public final class CottonEnvironment {
         return Blueprint.PropertyAllocation.of(CottonServletService.PKEY_RESPONSIVE_ADAPTION_WAIT_MS, String.valueOf(waitMs));
     }
 
+    /**
+     * Builds a {@link Blueprint.PropertyAllocation} that can @{@link Define} whether a @{@link Responsive} view should
+     * speculatively instantiate the alternative whose @{@link Responsive.ScreenClass} borders the current screen most
+     * closely, so a switch to it only has to exchange the displayed component.
+     * <p>
+     * The alternative is instantiated right after the request that displayed the current view, so prewarming trades
+     * memory per session for faster switches and should only be enabled for expensive alternatives.
+     * <p>
+     * By default, this option is disabled.
+     *
+     * @param prewarm True to enable prewarming alternatives, false otherwise.
+     * @return The {@link Blueprint.Allocation} for the application's environment {@link Blueprint}, never null
+     */
+    public static Blueprint.PropertyAllocation forResponsivePrewarming(boolean prewarm) {
+        return Blueprint.PropertyAllocation.of(CottonServletService.PKEY_RESPONSIVE_PREWARMING, Boolean.toString(prewarm));
+    }
+
     // #################################################################################################################
     // ################################################# METRICS #######################################################
     // #################################################################################################################
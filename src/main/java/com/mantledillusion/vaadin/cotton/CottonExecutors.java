@@ -0,0 +1,48 @@
+package com.mantledillusion.vaadin.cotton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+final class CottonExecutors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CottonExecutors.class);
+
+    private static final class BackgroundExecutorHolder {
+
+        private static final ExecutorService BACKGROUND_EXECUTOR = createBackgroundExecutor();
+    }
+
+    private CottonExecutors() {}
+
+    /**
+     * Returns the executor to run background tasks on that might block, like resolving users or instantiating views
+     * under the session lock.
+     * <p>
+     * On runtimes supporting virtual threads (Java 21+), every task runs on its own virtual thread; on older runtimes,
+     * tasks run on a cached pool of daemon platform threads.
+     *
+     * @return The shared background executor, never null
+     */
+    static ExecutorService background() {
+        return BackgroundExecutorHolder.BACKGROUND_EXECUTOR;
+    }
+
+    private static ExecutorService createBackgroundExecutor() {
+        // THE BUILD TARGETS JAVA 8, SO THE VIRTUAL THREAD FACTORY CAN ONLY BE LOOKED UP AT RUNTIME
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class.
+                    getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            LOGGER.debug("Running Cotton background tasks on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "cotton-background");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
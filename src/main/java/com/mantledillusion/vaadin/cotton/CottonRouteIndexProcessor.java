@@ -0,0 +1,152 @@
+package com.mantledillusion.vaadin.cotton;
+
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteAlias;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Annotation {@link Processor} that writes the index of all classes annotated with @{@link Route} or
+ * @{@link RouteAlias} to {@value #INDEX_LOCATION} at compile time.
+ * <p>
+ * The processor is registered as a service in META-INF/services, so javac runs it automatically for every compilation
+ * of sources using these annotations that has Cotton on its classpath, without any further configuration. It can be
+ * turned off using the compiler option -A{@value #OPTION_DISABLE}=true, or by disabling annotation processing
+ * altogether (-proc:none).
+ * <p>
+ * {@link CottonServlet}'s automatic route discovery only relies on the indexes if every module of the application's
+ * base package has one; if any of them has none, the base package is scanned as well. A module that contains classes
+ * inheriting their @{@link Route} is marked incomplete in its index and scanned as well, since those classes are not
+ * recompiled along with the class they inherit from.
+ */
+@SupportedOptions(CottonRouteIndexProcessor.OPTION_DISABLE)
+public final class CottonRouteIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The location of the route index in the class output.
+     */
+    public static final String INDEX_LOCATION = "META-INF/cotton/routes.idx";
+
+    /**
+     * Compiler option (-Acotton.routeIndex.disable=true) to prevent the index from being written.
+     */
+    public static final String OPTION_DISABLE = "cotton.routeIndex.disable";
+
+    private static final String INDEX_HEADER = "# Generated by " + CottonRouteIndexProcessor.class.getSimpleName()
+            + "; lists the binary names of all route targets, one per line";
+
+    /**
+     * The line marking an index as incomplete, so the module has to be scanned.
+     */
+    static final String INCOMPLETE_MARKER = "!incomplete";
+
+    private static final Set<String> SUPPORTED_ANNOTATION_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Route.class.getCanonicalName(),
+            RouteAlias.class.getCanonicalName(),
+            RouteAlias.class.getCanonicalName() + ".Container")));
+
+    private final Set<String> targets = new TreeSet<>();
+    private boolean isIndexExisting;
+    private boolean isIncomplete;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+
+        // MERGE THE EXISTING INDEX, SO INCREMENTAL COMPILATION DOES NOT DROP THE TARGETS NOT RECOMPILED
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (INCOMPLETE_MARKER.equals(line)) {
+                        this.isIncomplete = true;
+                    } else if (!line.isEmpty() && !line.startsWith("#")) {
+                        this.targets.add(line);
+                    }
+                }
+            }
+            this.isIndexExisting = true;
+        } catch (IOException | IllegalArgumentException e) {
+            // THERE IS NO PREVIOUS INDEX
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return SUPPORTED_ANNOTATION_TYPES;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (Boolean.parseBoolean(this.processingEnv.getOptions().get(OPTION_DISABLE))) {
+            return false;
+        }
+
+        for (TypeElement annotation: annotations) {
+            for (Element element: roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind().isClass()) {
+                    this.targets.add(this.processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+
+                    // SUB CLASSES INHERITING THE ANNOTATION ARE NOT RECOMPILED ALONG WITH THEIR SUPER CLASS
+                    if (!isDeclared(element, annotation)) {
+                        this.isIncomplete = true;
+                    }
+                }
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private static boolean isDeclared(Element element, TypeElement annotation) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> mirror.getAnnotationType().asElement().equals(annotation));
+    }
+
+    private void writeIndex() {
+        // DROP TARGETS THAT HAVE BEEN DELETED OR RENAMED SINCE THE PREVIOUS INDEX WAS WRITTEN
+        this.targets.removeIf(target -> this.processingEnv.getElementUtils().
+                getTypeElement(target.replace('$', '.')) == null);
+        if (this.targets.isEmpty() && !this.isIndexExisting && !this.isIncomplete) {
+            return;
+        }
+
+        try {
+            FileObject index = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8))) {
+                writer.write(INDEX_HEADER);
+                writer.write('\n');
+                if (this.isIncomplete) {
+                    writer.write(INCOMPLETE_MARKER);
+                    writer.write('\n');
+                }
+                for (String target: this.targets) {
+                    writer.write(target);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Unable to write the Cotton route "
+                    + "index to '" + INDEX_LOCATION + "'; routes will be discovered by scanning at runtime: " + e.getMessage());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
 import com.mantledillusion.injection.hura.core.annotation.property.Resolve;
 import com.mantledillusion.vaadin.cotton.exception.http900.Http901IllegalArgumentException;
+import com.mantledillusion.vaadin.cotton.exception.http900.Http902IllegalStateException;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.server.DefaultDeploymentConfiguration;
 import com.vaadin.flow.server.ServiceException;
@@ -15,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Extended {@link VaadinServlet} that sets up Cotton's application environment.
@@ -55,6 +57,7 @@ public class CottonServlet extends VaadinServlet {
     }
 
     private final Logger logger = LoggerFactory.getLogger(((Object) this).getClass());
+    private final CottonStartupProfile startupProfile = new CottonStartupProfile();
     private final Injector servletInjector;
     private final String applicationInitializerClass;
     private final String applicationPackage;
@@ -70,7 +73,9 @@ public class CottonServlet extends VaadinServlet {
             throw new Http901IllegalArgumentException("Cannot initialize a " + CottonServlet.class.getSimpleName() + " using a null cotton environment blueprint");
         }
 
+        long injectorBegin = System.nanoTime();
         this.servletInjector = Injector.of(cottonEnvironment);
+        this.startupProfile.phase(CottonStartupProfile.PHASE_INJECTOR, injectorBegin);
         this.applicationInitializerClass = cottonEnvironment.getClass().getName();
         this.applicationPackage = this.servletInjector.resolve("${" + CottonEnvironment.PKEY_APPLICATION_BASE_PACKAGE
                 + ":"+cottonEnvironment.getClass().getPackage().getName() + "}", true);
@@ -107,28 +112,56 @@ public class CottonServlet extends VaadinServlet {
                     allocateToInstance(SID_DEPLOYMENTCONFIG, deploymentConfiguration);
 
             // LOCALIZER
+            long localizationBegin = System.nanoTime();
+            Locale defaultLocale = Locale.forLanguageTag(this.servletInjector.resolve("${"+ CottonEnvironment.PKEY_DEFAULT_LOCALE+":en}"));
+            Localizer.checkLocale(defaultLocale);
+            String defaultLang = Localizer.toLang(defaultLocale);
+            boolean lazyLocalization = Boolean.parseBoolean(this.servletInjector.resolve("${"+ CottonEnvironment.PKEY_LAZY_LOCALIZATION+":false}"));
+
+            List<CottonEnvironment.LocalizationRegistration> registrations = new ArrayList<>(this.servletInjector.
+                    aggregate(CottonEnvironment.LocalizationRegistration.class));
+
+            // PARSE ALL BUNDLES REQUIRED AT STARTUP IN PARALLEL; ANY MISCONFIGURED BUNDLE FAILS THE STARTUP
+            List<RuntimeException> localizationFailures = registrations.parallelStream()
+                    .filter(registration -> !lazyLocalization || registration.isReference()
+                            || defaultLang.equals(Localizer.toLang(registration.locale)))
+                    .map(Localizer.LocalizationResource::tryLoad)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            if (!localizationFailures.isEmpty()) {
+                Http902IllegalStateException e = new Http902IllegalStateException("Unable to load "
+                        + localizationFailures.size() + " of the localization bundles at startup: "
+                        + localizationFailures.stream().map(Throwable::getMessage).collect(Collectors.joining("; ")));
+                localizationFailures.forEach(e::addSuppressed);
+                throw e;
+            }
+
             Map<String, Localizer.LocalizationResource> resourceBundleRegistry = new HashMap<>();
             Set<Locale> supportedLocales = new HashSet<>();
-
-            for (CottonEnvironment.LocalizationRegistration registration:
-                    this.servletInjector.aggregate(CottonEnvironment.LocalizationRegistration.class)) {
+            for (CottonEnvironment.LocalizationRegistration registration: registrations) {
                 String lang = Localizer.toLang(registration.locale);
                 if (!resourceBundleRegistry.containsKey(lang)) {
                     resourceBundleRegistry.put(lang, new Localizer.LocalizationResource(registration.locale));
                     supportedLocales.add(registration.locale);
                 }
-                resourceBundleRegistry.get(lang).addBundle(registration.bundle, registration.bundleKeys);
+                if (registration.isLoaded()) {
+                    resourceBundleRegistry.get(lang).addBundle(registration.getBundle(), registration.getBundleKeys());
+                    this.startupProfile.count(CottonStartupProfile.COUNT_BUNDLES, 1);
+                } else {
+                    resourceBundleRegistry.get(lang).addLazyBundle(registration);
+                    this.startupProfile.count(CottonStartupProfile.COUNT_LAZY_BUNDLES, 1);
+                }
             }
             List<Locale> supportedLocales2 = new ArrayList<>(supportedLocales);
-
-            Locale defaultLocale = Locale.forLanguageTag(this.servletInjector.resolve("${"+ CottonEnvironment.PKEY_DEFAULT_LOCALE+":en}"));
-            Localizer.checkLocale(defaultLocale);
             supportedLocales2.sort((o1, o2) -> defaultLocale.equals(o1) ? -1 : 0);
 
             Blueprint.SingletonAllocation localizer = Blueprint.SingletonAllocation.
                     allocateToInstance(Localizer.SID_LOCALIZER, new Localizer(resourceBundleRegistry, supportedLocales2));
+            this.startupProfile.phase(CottonStartupProfile.PHASE_LOCALIZATION, localizationBegin);
+            this.startupProfile.count(CottonStartupProfile.COUNT_LOCALES, supportedLocales2.size());
 
             // ERROR HANDLER
+            long errorHandlerBegin = System.nanoTime();
             Collection<CottonErrorHandler.CottonErrorContentProvider> errorContentProviders = this.servletInjector.
                     aggregate(CottonErrorHandler.CottonErrorContentProvider.class);
             Blueprint.SingletonAllocation errorHandler = Blueprint.SingletonAllocation.
@@ -137,15 +170,22 @@ public class CottonServlet extends VaadinServlet {
                                     "}", false),
                             this.servletInjector.resolve("${"+CottonEnvironment.PKEY_ERROR_HANDLING_SUPPORT_EMAIL_SUBJECT+
                                     ":"+CottonEnvironment.DEFAULT_ERROR_HANDLING_SUPPORT_EMAIL_SUBJECT+"}")));
+            this.startupProfile.phase(CottonStartupProfile.PHASE_ERROR_HANDLER, errorHandlerBegin);
 
             // APPLICATION
             Blueprint.PropertyAllocation initializerClass = Blueprint.PropertyAllocation.of(PID_INITIALIZERCLASS, this.applicationInitializerClass);
             Blueprint.PropertyAllocation basePackage = Blueprint.PropertyAllocation.of(PID_BASEPACKAGE, this.applicationPackage);
 
+            // STARTUP PROFILE
+            Blueprint.SingletonAllocation startupProfile = Blueprint.SingletonAllocation.
+                    allocateToInstance(CottonStartupProfile.SID_STARTUP_PROFILE, this.startupProfile);
+
             // BUILD VAADIN SERVICE
+            long serviceBegin = System.nanoTime();
             service = this.servletInjector.instantiate(CottonServletService.class, servlet, deploymentConfig, localizer,
-                    errorHandler, initializerClass, basePackage);
+                    errorHandler, initializerClass, basePackage, startupProfile);
             service.init();
+            this.startupProfile.phase(CottonStartupProfile.PHASE_SERVICE, serviceBegin);
         } catch (Exception e) {
             ServiceException se = new ServiceException(e);
             this.logger.error("Unable to create " + CottonServletService.class.getSimpleName() + " for "
@@ -153,6 +193,17 @@ public class CottonServlet extends VaadinServlet {
             throw se;
         }
 
+        this.startupProfile.commit(((Object) this).getClass().getSimpleName(), this.logger);
+
+        // TRAINING RUN
+        if (Boolean.parseBoolean(this.servletInjector.resolve("${" + CottonEnvironment.PKEY_TRAINING_RUN + ":"
+                + System.getProperty(CottonEnvironment.PKEY_TRAINING_RUN, Boolean.FALSE.toString()) + "}"))) {
+            ((CottonServletService) service).train();
+
+            // THE JVM BELONGS TO THE SERVLET CONTAINER; IT IS UP TO THE APPLICATION'S LAUNCHER TO EXIT IT
+            this.logger.info("Training run completed; the application can now be stopped");
+        }
+
         return service;
     }
 
@@ -1,7 +1,6 @@
 package com.mantledillusion.vaadin.cotton;
 
 import com.mantledillusion.essentials.object.Null;
-import com.mantledillusion.essentials.reflection.TypeEssentials;
 import com.mantledillusion.injection.hura.core.Blueprint;
 import com.mantledillusion.injection.hura.core.Bus;
 import com.mantledillusion.injection.hura.core.Injector;
@@ -21,15 +20,16 @@ import com.mantledillusion.vaadin.cotton.exception.http500.Http500InternalServer
 import com.mantledillusion.vaadin.cotton.metrics.BrowserType;
 import com.mantledillusion.vaadin.cotton.metrics.CottonMetrics;
 import com.mantledillusion.vaadin.cotton.metrics.SystemEnvironmentType;
+import com.mantledillusion.vaadin.cotton.model.ModelContainer;
 import com.mantledillusion.vaadin.cotton.viewpresenter.PrioritizedRouteAlias;
+import com.mantledillusion.vaadin.cotton.viewpresenter.Presentable;
 import com.mantledillusion.vaadin.cotton.viewpresenter.Responsive;
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ClientCallable;
 import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.html.Div;
-import com.vaadin.flow.component.page.BrowserWindowResizeEvent;
-import com.vaadin.flow.component.page.BrowserWindowResizeListener;
 import com.vaadin.flow.component.page.ExtendedClientDetails;
-import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.di.DefaultInstantiator;
 import com.vaadin.flow.di.Instantiator;
 import com.vaadin.flow.function.DeploymentConfiguration;
@@ -37,22 +37,34 @@ import com.vaadin.flow.i18n.I18NProvider;
 import com.vaadin.flow.router.*;
 import com.vaadin.flow.server.*;
 import com.vaadin.flow.server.startup.ApplicationRouteRegistry;
-import com.vaadin.flow.shared.Registration;
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Serializable;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.function.BiPredicate;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 class CottonServletService extends VaadinServletService {
 
@@ -61,9 +73,15 @@ class CottonServletService extends VaadinServletService {
 	private static final String FILE = "file";
 	private static final String FOREIGN_TRAIL = "_foreignMetricsTrail";
 
+	private interface ClassFileSource {
+
+		InputStream open() throws IOException;
+	}
+
 	static final String SID_SERVLETSERVICE = "_servletService";
 	static final String PKEY_RESPONSIVE_ADAPTION_WAIT_MS = "_responsiveAdaptionWaitMs";
 	static final String DEFAULT_RESPONSIVE_ADAPTION_WAIT_MS = "2000";
+	static final String PKEY_RESPONSIVE_PREWARMING = "_responsivePrewarming";
 
 	private final class CottonInstantiator extends DefaultInstantiator {
 
@@ -80,8 +98,9 @@ class CottonServletService extends VaadinServletService {
 		public <T extends HasElement> T createRouteTarget(Class<T> routeTargetType, NavigationEvent event) {
 			T target;
 
-			if (routeTargetType.isAnnotationPresent(Responsive.class)) {
-				CottonResponsiveDecider decider = new CottonResponsiveDecider((Class<? extends Component>) routeTargetType);
+			if (CottonTypeMetadata.of(routeTargetType).isResponsive()) {
+				CottonResponsiveDecider decider = new CottonResponsiveDecider(CottonServletService.this.responsiveTables.
+						computeIfAbsent(routeTargetType, CottonResponsiveTable::new));
 
 				if (decider.isScreenDependent()) {
 					CottonResponsiveWrapper wrapper = CottonUI.current().exchangeInjectedView(CottonResponsiveWrapper.class);
@@ -89,7 +108,7 @@ class CottonServletService extends VaadinServletService {
 							wrapper.initialize(decider, details));
 					target = (T) wrapper;
 				} else {
-					Class<? extends Component> targetViewType = decider.determineViewType().orElse(decider.routeTargetType);
+					Class<? extends Component> targetViewType = decider.determineViewType().viewType;
 
 					long ms = System.currentTimeMillis();
 					target = (T) CottonUI.current().exchangeInjectedView(targetViewType);
@@ -124,146 +143,370 @@ class CottonServletService extends VaadinServletService {
 		}
 	}
 
-	private static class CottonResponsiveDecider {
+	private static final class CottonResponsiveTable {
+
+		private static final int DEVICE_ANDROID = 1;
+		private static final int DEVICE_CHROMEOS = 1 << 1;
+		private static final int DEVICE_IOS = 1 << 2;
+		private static final int DEVICE_IPHONE = 1 << 3;
+		private static final int DEVICE_IPAD = 1 << 4;
+		private static final int DEVICE_LINUX = 1 << 5;
+		private static final int DEVICE_MACOSX = 1 << 6;
+		private static final int DEVICE_WINDOWS = 1 << 7;
+		private static final int DEVICE_WINDOWSPHONE = 1 << 8;
+		private static final int DEVICE_ALL = (1 << 9) - 1;
+
+		private static final class Alternative {
+
+			private final Class<? extends Component> viewType;
+
+			private final boolean hasDeviceClass;
+			private final boolean isDeviceAndConjoined;
+			private final int deviceDeterminedMask;
+			private final int deviceExpectedMask;
+
+			private final boolean hasScreenClass;
+			private final Responsive.MatchType screenTouchDevice;
+			private final Responsive.ScreenClass.ScreenMode screenMode;
+			private final int screenFromX;
+			private final int screenToX;
+			private final int screenFromY;
+			private final int screenToY;
+			private final double screenFromRatio;
+			private final double screenToRatio;
+			private final Responsive.ScreenClass.AdaptionMode adaptionMode;
+
+			private Alternative(Class<? extends Component> viewType) {
+				this.viewType = viewType;
+
+				CottonTypeMetadata metadata = CottonTypeMetadata.of(viewType);
+
+				Responsive.DeviceClass deviceClass = metadata.getDeviceClass();
+				this.hasDeviceClass = deviceClass != null;
+				if (this.hasDeviceClass) {
+					this.isDeviceAndConjoined = deviceClass.andConjoined();
+					this.deviceDeterminedMask = toMask(deviceClass, Responsive.MatchType.TRUE, Responsive.MatchType.FALSE);
+					this.deviceExpectedMask = toMask(deviceClass, Responsive.MatchType.TRUE, Responsive.MatchType.TRUE);
+				} else {
+					this.isDeviceAndConjoined = false;
+					this.deviceDeterminedMask = 0;
+					this.deviceExpectedMask = 0;
+				}
+
+				Responsive.ScreenClass screenClass = metadata.getScreenClass();
+				this.hasScreenClass = screenClass != null;
+				if (this.hasScreenClass) {
+					this.screenTouchDevice = screenClass.isTouchDevice();
+					this.screenMode = screenClass.mode();
+					this.screenFromX = screenClass.fromX();
+					this.screenToX = screenClass.toX();
+					this.screenFromY = screenClass.fromY();
+					this.screenToY = screenClass.toY();
+					this.screenFromRatio = Math.min(screenClass.fromX() / (double) screenClass.fromY(),
+							screenClass.toX() / (double) screenClass.toY());
+					this.screenToRatio = Math.max(screenClass.fromX() / (double) screenClass.fromY(),
+							screenClass.toX() / (double) screenClass.toY());
+					this.adaptionMode = screenClass.automaticAdaptionMode();
+				} else {
+					this.screenTouchDevice = Responsive.MatchType.UNDETERMINED;
+					this.screenMode = null;
+					this.screenFromX = Integer.MIN_VALUE;
+					this.screenToX = Integer.MAX_VALUE;
+					this.screenFromY = Integer.MIN_VALUE;
+					this.screenToY = Integer.MAX_VALUE;
+					this.screenFromRatio = 0;
+					this.screenToRatio = 0;
+					this.adaptionMode = null;
+				}
+			}
+
+			private boolean matchesDevice(int deviceMask) {
+				if (!this.hasDeviceClass) {
+					return true;
+				} else if (this.isDeviceAndConjoined) {
+					// EVERY HINT HAS TO BE DETERMINED AND HAS TO MATCH
+					return this.deviceDeterminedMask == DEVICE_ALL && deviceMask == this.deviceExpectedMask;
+				} else {
+					// AT LEAST ONE DETERMINED HINT HAS TO MATCH
+					return (~(deviceMask ^ this.deviceExpectedMask) & this.deviceDeterminedMask) != 0;
+				}
+			}
+
+			private boolean matchesTouch(boolean isTouchDevice) {
+				return !this.hasScreenClass || !(isTouchDevice && this.screenTouchDevice == Responsive.MatchType.FALSE ||
+						!isTouchDevice && this.screenTouchDevice == Responsive.MatchType.TRUE);
+			}
+
+			private boolean matchesScreen(int width, int height) {
+				if (!this.hasScreenClass) {
+					return true;
+				}
+
+				switch (this.screenMode) {
+					case ABSOLUTE:
+						return width >= this.screenFromX && width <= this.screenToX &&
+								height >= this.screenFromY && height <= this.screenToY;
+					case RATIO:
+						double clientRatio = width / (double) height;
+						return clientRatio >= this.screenFromRatio && clientRatio <= this.screenToRatio;
+					default:
+						throw new Http500InternalServerErrorException("Handling of alternative mode " +
+								this.screenMode.name() + " not implemented");
+				}
+			}
+
+			private double distanceTo(int width, int height) {
+				if (!this.hasScreenClass) {
+					return 0;
+				} else if (this.screenMode == Responsive.ScreenClass.ScreenMode.ABSOLUTE) {
+					return Math.max(0, Math.max((double) this.screenFromX - width, (double) width - this.screenToX))
+							+ Math.max(0, Math.max((double) this.screenFromY - height, (double) height - this.screenToY));
+				} else {
+					return Math.max(0, Math.max(height * this.screenFromRatio - width, width - height * this.screenToRatio));
+				}
+			}
+
+			private double distanceToLeave(int width, int height) {
+				if (!this.hasScreenClass) {
+					return Double.POSITIVE_INFINITY;
+				} else if (this.screenMode == Responsive.ScreenClass.ScreenMode.ABSOLUTE) {
+					return 1 + Math.min(Math.min((double) width - this.screenFromX, (double) this.screenToX - width),
+							Math.min((double) height - this.screenFromY, (double) this.screenToY - height));
+				} else {
+					return 1 + Math.min(width - height * this.screenFromRatio, height * this.screenToRatio - width);
+				}
+			}
 
-		private static final List<BiPredicate<CottonResponsiveDecider, Responsive.DeviceClass>> DEVICE_MATCHERS = Arrays.asList(
-				(decider, deviceClass) -> deviceClass.isAndroid() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceAndroid == (deviceClass.isAndroid() == Responsive.MatchType.TRUE),
-				(decider, deviceClass) -> deviceClass.isChromeOS() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceChromeOS == (deviceClass.isChromeOS() == Responsive.MatchType.TRUE),
-				(decider, deviceClass) -> deviceClass.isIOS() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceIOS == (deviceClass.isIOS() == Responsive.MatchType.TRUE),
-				(decider, deviceClass) -> deviceClass.isIPhone() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceIPhone == (deviceClass.isIPhone() == Responsive.MatchType.TRUE),
-				(decider, deviceClass) -> deviceClass.isIPad() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceIPad == (deviceClass.isIPad() == Responsive.MatchType.TRUE),
-				(decider, deviceClass) -> deviceClass.isLinux() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceLinux == (deviceClass.isLinux() == Responsive.MatchType.TRUE),
-				(decider, deviceClass) -> deviceClass.isMacOSX() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceMacOSX == (deviceClass.isMacOSX() == Responsive.MatchType.TRUE),
-				(decider, deviceClass) -> deviceClass.isWindows() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceWindows == (deviceClass.isWindows() == Responsive.MatchType.TRUE),
-				(decider, deviceClass) -> deviceClass.isWindowsPhone() != Responsive.MatchType.UNDETERMINED
-						&& decider.isDeviceWindowsPhone == (deviceClass.isWindowsPhone() == Responsive.MatchType.TRUE)
-		);
+			private static int toMask(Responsive.DeviceClass deviceClass, Responsive.MatchType trueType,
+									  Responsive.MatchType falseType) {
+				return toBit(deviceClass.isAndroid(), trueType, falseType, DEVICE_ANDROID)
+						| toBit(deviceClass.isChromeOS(), trueType, falseType, DEVICE_CHROMEOS)
+						| toBit(deviceClass.isIOS(), trueType, falseType, DEVICE_IOS)
+						| toBit(deviceClass.isIPhone(), trueType, falseType, DEVICE_IPHONE)
+						| toBit(deviceClass.isIPad(), trueType, falseType, DEVICE_IPAD)
+						| toBit(deviceClass.isLinux(), trueType, falseType, DEVICE_LINUX)
+						| toBit(deviceClass.isMacOSX(), trueType, falseType, DEVICE_MACOSX)
+						| toBit(deviceClass.isWindows(), trueType, falseType, DEVICE_WINDOWS)
+						| toBit(deviceClass.isWindowsPhone(), trueType, falseType, DEVICE_WINDOWSPHONE);
+			}
+
+			private static int toBit(Responsive.MatchType matchType, Responsive.MatchType trueType,
+									 Responsive.MatchType falseType, int bit) {
+				return matchType == trueType || matchType == falseType ? bit : 0;
+			}
+		}
 
 		private final Class<? extends Component> routeTargetType;
-		private final Class<? extends Component>[] alternativeTargetTypes;
-
-		private final boolean isDeviceAndroid;
-		private final boolean isDeviceChromeOS;
-		private final boolean isDeviceIOS;
-		private final boolean isDeviceIPhone;
-		private final boolean isDeviceIPad;
-		private final boolean isDeviceLinux;
-		private final boolean isDeviceMacOSX;
-		private final boolean isDeviceWindows;
-		private final boolean isDeviceWindowsPhone;
+		private final Alternative routeTarget;
+		private final Alternative[] alternatives;
+		private final boolean isScreenDependent;
+		private final boolean isPushAnnotated;
+		private final boolean isModelShared;
+
+		private CottonResponsiveTable(Class<?> routeTargetType) {
+			this.routeTargetType = (Class<? extends Component>) routeTargetType;
+			this.routeTarget = new Alternative(this.routeTargetType);
+			CottonTypeMetadata metadata = CottonTypeMetadata.of(routeTargetType);
+			this.alternatives = Arrays.stream(metadata.getResponsive().value())
+					.map(Alternative::new)
+					.toArray(Alternative[]::new);
+			this.isScreenDependent = Arrays.stream(this.alternatives)
+					.anyMatch(alternative -> alternative.hasScreenClass);
+			this.isPushAnnotated = metadata.isPushAnnotated();
+			this.isModelShared = metadata.getResponsive().shareModel();
+		}
 
+		private static int toDeviceMask(WebBrowser browser) {
+			return (browser.isAndroid() ? DEVICE_ANDROID : 0)
+					| (browser.isChromeOS() ? DEVICE_CHROMEOS : 0)
+					| (browser.isIOS() ? DEVICE_IOS : 0)
+					| (browser.isIPhone() ? DEVICE_IPHONE : 0)
+					| (browser.isIPad() ? DEVICE_IPAD : 0)
+					| (browser.isLinux() ? DEVICE_LINUX : 0)
+					| (browser.isMacOSX() ? DEVICE_MACOSX : 0)
+					| (browser.isWindows() ? DEVICE_WINDOWS : 0)
+					| (browser.isWindowsPhone() ? DEVICE_WINDOWSPHONE : 0);
+		}
+	}
+
+	private static final class CottonDeviceDescriptor implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int deviceMask;
+		private final BrowserType browserType;
+		private final String browserVersion;
+		private final SystemEnvironmentType systemEnvironmentType;
+
+		private CottonDeviceDescriptor(WebBrowser browser) {
+			this.deviceMask = CottonResponsiveTable.toDeviceMask(browser);
+			this.browserType = BrowserType.of(browser.isChrome(), browser.isEdge(), browser.isFirefox(),
+					browser.isIE(), browser.isOpera(), browser.isSafari());
+			this.browserVersion = browser.getBrowserMajorVersion() + "." + browser.getBrowserMinorVersion();
+			this.systemEnvironmentType = SystemEnvironmentType.of(
+					Null.get(browser::isAndroid, false), Null.get(browser::isIPad, false),
+					Null.get(browser::isIPhone, false), Null.get(browser::isLinux, false),
+					Null.get(browser::isMacOSX, false), Null.get(browser::isWindows, false),
+					Null.get(browser::isWindowsPhone, false));
+		}
+	}
+
+	private static class CottonResponsiveDecider {
+
+		private final CottonResponsiveTable table;
+		private final Class<? extends Component> routeTargetType;
+		private final CottonResponsiveTable.Alternative[] deviceAlternatives;
+
+		private CottonResponsiveTable.Alternative[] screenAlternatives;
 		private boolean isScreenAsyncAdaptive;
-		private boolean isScreenTouchReactive;
 
-		private CottonResponsiveDecider(Class<? extends Component> routeTargetType) {
-			this.routeTargetType = routeTargetType;
-			this.alternativeTargetTypes = routeTargetType.getAnnotation(Responsive.class).value();
+		private CottonResponsiveDecider(CottonResponsiveTable table) {
+			this.table = table;
+			this.routeTargetType = table.routeTargetType;
 
-			WebBrowser browser = CottonSession.current().getBrowser();
-			this.isDeviceAndroid = browser.isAndroid();
-			this.isDeviceChromeOS = browser.isChromeOS();
-			this.isDeviceIOS = browser.isIOS();
-			this.isDeviceIPhone = browser.isIPhone();
-			this.isDeviceIPad = browser.isIPad();
-			this.isDeviceLinux = browser.isLinux();
-			this.isDeviceMacOSX = browser.isMacOSX();
-			this.isDeviceWindows = browser.isWindows();
-			this.isDeviceWindowsPhone = browser.isWindowsPhone();
+			// THE DEVICE CANNOT CHANGE DURING BROWSING, SO ONLY THE ALTERNATIVES MATCHING IT ARE CONSIDERED FURTHER
+			int deviceMask = describe(CottonSession.current()).deviceMask;
+			this.deviceAlternatives = Arrays.stream(table.alternatives)
+					.filter(alternative -> alternative.matchesDevice(deviceMask))
+					.toArray(CottonResponsiveTable.Alternative[]::new);
 		}
 
 		private boolean isScreenDependent() {
-			return Arrays.stream(this.alternativeTargetTypes)
-					.anyMatch(alternativeTargetType -> alternativeTargetType.isAnnotationPresent(Responsive.ScreenClass.class));
+			return this.table.isScreenDependent;
 		}
 
 		private void initializeForScreen(ExtendedClientDetails clientDetails) {
 			this.isScreenAsyncAdaptive = CottonServletService.getCurrent().ensurePushAvailable() &&
-					this.routeTargetType.isAnnotationPresent(Push.class);
-			this.isScreenTouchReactive = clientDetails.isTouchDevice();
-		}
+					this.table.isPushAnnotated;
 
-		private Optional<Class<? extends Component>> determineViewType() {
-			return Arrays.stream(this.alternativeTargetTypes)
-					.filter(alternativeTargetType -> matchesDevice(alternativeTargetType))
-					.findFirst();
+			// THE TOUCH CAPABILITY CANNOT CHANGE EITHER, SO ONLY THE SCREEN BOUNDS REMAIN TO BE CHECKED ON RESIZE
+			boolean isScreenTouchReactive = clientDetails.isTouchDevice();
+			this.screenAlternatives = Arrays.stream(this.deviceAlternatives)
+					.filter(alternative -> alternative.matchesTouch(isScreenTouchReactive))
+					.toArray(CottonResponsiveTable.Alternative[]::new);
 		}
 
-		private Optional<Class<? extends Component>> determineViewType(int width, int height) {
-			return Arrays.stream(this.alternativeTargetTypes)
-					.filter(alternativeTargetType -> matchesDevice(alternativeTargetType))
-					.filter(alternativeTargetType -> matchesScreen(alternativeTargetType, width, height))
-					.findFirst();
+		private CottonResponsiveTable.Alternative determineViewType() {
+			return this.deviceAlternatives.length > 0 ? this.deviceAlternatives[0] : this.table.routeTarget;
 		}
 
-		private boolean matchesDevice(Class<? extends Component> alternativeTargetType) {
-			if (alternativeTargetType.isAnnotationPresent(Responsive.DeviceClass.class)) {
-				Responsive.DeviceClass deviceClass = alternativeTargetType.getAnnotation(Responsive.DeviceClass.class);
-				if (deviceClass.andConjoined()) {
-					return DEVICE_MATCHERS.stream().allMatch(predicate -> predicate.test(this, deviceClass));
-				} else {
-					return DEVICE_MATCHERS.stream().anyMatch(predicate -> predicate.test(this, deviceClass));
+		private CottonResponsiveTable.Alternative determineViewType(int width, int height) {
+			for (CottonResponsiveTable.Alternative alternative: this.screenAlternatives) {
+				if (alternative.matchesScreen(width, height)) {
+					return alternative;
 				}
-			} else {
-				return true;
 			}
+			return this.table.routeTarget;
 		}
 
-		private boolean matchesScreen(Class<? extends Component> alternativeTargetType, int width, int height) {
-			if (alternativeTargetType.isAnnotationPresent(Responsive.ScreenClass.class)) {
-				Responsive.ScreenClass screenClass = alternativeTargetType.getAnnotation(Responsive.ScreenClass.class);
-
-				if (this.isScreenTouchReactive && screenClass.isTouchDevice() == Responsive.MatchType.FALSE ||
-						!this.isScreenTouchReactive && screenClass.isTouchDevice() == Responsive.MatchType.TRUE) {
-					return false;
+		private CottonResponsiveTable.Alternative determineNeighbourViewType(int width, int height) {
+			CottonResponsiveTable.Alternative current = determineViewType(width, height);
+			double leaveDistance = current.distanceToLeave(width, height);
+
+			// THE ROUTE TARGET IS THE FALLBACK AS SOON AS THE CURRENT ALTERNATIVE IS LEFT
+			CottonResponsiveTable.Alternative neighbour = current == this.table.routeTarget ? null : this.table.routeTarget;
+			double neighbourDistance = current == this.table.routeTarget ? Double.POSITIVE_INFINITY : leaveDistance;
+
+			// ALTERNATIVES PRIOR TO THE CURRENT ONE WIN AS SOON AS THEY ARE ENTERED, THE OTHERS HAVE TO WAIT FOR IT TO BE LEFT
+			boolean isPrior = true;
+			for (CottonResponsiveTable.Alternative alternative: this.screenAlternatives) {
+				if (alternative == current) {
+					isPrior = false;
+				} else if (alternative.viewType != current.viewType) {
+					double distance = isPrior ? alternative.distanceTo(width, height) :
+							Math.max(alternative.distanceTo(width, height), leaveDistance);
+					if (distance < neighbourDistance) {
+						neighbour = alternative;
+						neighbourDistance = distance;
+					}
 				}
+			}
+			return neighbour;
+		}
 
-				switch (screenClass.mode()) {
-					case ABSOLUTE:
-						return width >= screenClass.fromX() && width <= screenClass.toX() &&
-								height >= screenClass.fromY() && height <= screenClass.toY();
-					case RATIO:
-						double clientRatio = width / (double) height;
-						double alternativeFromRatio = Math.min(screenClass.fromX() / (double) screenClass.fromY(),
-								screenClass.toX() / (double) screenClass.toY());
-						double alternativeToRatio = Math.max(screenClass.fromX() / (double) screenClass.fromY(),
-								screenClass.toX() / (double) screenClass.toY());
-						return clientRatio >= alternativeFromRatio && clientRatio <= alternativeToRatio;
-					default:
-						throw new Http500InternalServerErrorException("Handling of alternative mode " +
-								screenClass.mode().name() + " not implemented");
+		private int indexOf(CottonResponsiveTable.Alternative alternative) {
+			for (int i = 0; i < this.screenAlternatives.length; i++) {
+				if (this.screenAlternatives[i] == alternative) {
+					return i;
 				}
-			} else {
-				return true;
 			}
+			return -1;
+		}
+
+		private JsonArray toClientBoundaries() {
+			JsonArray boundaries = Json.createArray();
+			for (int i = 0; i < this.screenAlternatives.length; i++) {
+				CottonResponsiveTable.Alternative alternative = this.screenAlternatives[i];
+				JsonArray boundary = Json.createArray();
+				boundary.set(0, alternative.hasScreenClass);
+				boundary.set(1, !alternative.hasScreenClass ? -1 :
+						alternative.screenMode == Responsive.ScreenClass.ScreenMode.ABSOLUTE ? 0 : 1);
+				boundary.set(2, alternative.screenFromX);
+				boundary.set(3, alternative.screenToX);
+				boundary.set(4, alternative.screenFromY);
+				boundary.set(5, alternative.screenToY);
+				boundaries.set(i, boundary);
+			}
+			return boundaries;
 		}
 	}
 
-	static class CottonResponsiveWrapper extends Div implements BrowserWindowResizeListener {
+	static class CottonResponsiveWrapper extends Div {
+
+		private static final String BOUNDARY_LISTENER_SCRIPT =
+				"const wrapper = this;" +
+				"const alternatives = $0;" +
+				"const match = function() {" +
+				"  const width = window.innerWidth, height = window.innerHeight;" +
+				"  for (let i = 0; i < alternatives.length; i++) {" +
+				"    const a = alternatives[i];" +
+				"    if (!a[0]) { return i; }" +
+				"    if (a[1] === 0 && width >= a[2] && width <= a[3] && height >= a[4] && height <= a[5]) { return i; }" +
+				"    if (a[1] === 1) {" +
+				"      const ratio = width / height;" +
+				"      const fromRatio = Math.min(a[2] / a[4], a[3] / a[5]), toRatio = Math.max(a[2] / a[4], a[3] / a[5]);" +
+				"      if (ratio >= fromRatio && ratio <= toRatio) { return i; }" +
+				"    }" +
+				"  }" +
+				"  return -1;" +
+				"};" +
+				"if (wrapper.$cottonBoundaryListener) { window.removeEventListener('resize', wrapper.$cottonBoundaryListener); }" +
+				"wrapper.$cottonBoundaryIndex = $1;" +
+				"wrapper.$cottonBoundaryListener = function() {" +
+				"  if (!wrapper.isConnected) { window.removeEventListener('resize', wrapper.$cottonBoundaryListener); return; }" +
+				"  const matched = match();" +
+				"  if (matched !== wrapper.$cottonBoundaryIndex) {" +
+				"    wrapper.$cottonBoundaryIndex = matched;" +
+				"    wrapper.$server.boundaryCrossed(window.innerWidth, window.innerHeight);" +
+				"  }" +
+				"};" +
+				"window.addEventListener('resize', wrapper.$cottonBoundaryListener);" +
+				"wrapper.$cottonBoundaryListener();";
+
+		private static final String BOUNDARY_RESET_SCRIPT = "this.$cottonBoundaryIndex = null;";
 
 		private final Injector injector;
-		private final Registration registration;
-		private final ExecutorService executorService;
+		private final ScheduledExecutorService adaptionScheduler;
 		private final int responsiveAdaptionWaitMs;
+		private final boolean responsivePrewarming;
 		private CottonResponsiveDecider decider;
+		private ModelContainer<?> sharedModelContainer;
+		private Component prewarmedView;
 		private Pair<Integer, Integer> resizeDimension;
 		private long resizeWaitMs;
+		private long resizeBeginMs;
+		private int resizeCount;
+		private ScheduledFuture<?> adaption;
 
 
 		@Construct
 		private CottonResponsiveWrapper(@Inject Injector injector,
-										@Resolve("${" + PKEY_RESPONSIVE_ADAPTION_WAIT_MS + ":" + DEFAULT_RESPONSIVE_ADAPTION_WAIT_MS + "}") String responsiveAdaptionWaitMs) {
+										@Resolve("${" + PKEY_RESPONSIVE_ADAPTION_WAIT_MS + ":" + DEFAULT_RESPONSIVE_ADAPTION_WAIT_MS + "}") String responsiveAdaptionWaitMs,
+										@Resolve("${" + PKEY_RESPONSIVE_PREWARMING + ":false}") @Matches("(true)|(false)") String responsivePrewarming) {
 			this.injector = injector;
-			this.registration = CottonUI.current().getPage().addBrowserWindowResizeListener(this);
-			this.executorService = Executors.newSingleThreadExecutor();
+			this.adaptionScheduler = CottonServletService.current().scheduler;
 			this.responsiveAdaptionWaitMs = Math.max(0, Integer.parseInt(responsiveAdaptionWaitMs));
+			this.responsivePrewarming = Boolean.parseBoolean(responsivePrewarming);
 
 			getElement().getStyle().set("width", "100%");
 			getElement().getStyle().set("height", "100%");
@@ -272,64 +515,98 @@ class CottonServletService extends VaadinServletService {
 		private <T extends Component> void initialize(CottonResponsiveDecider decider, ExtendedClientDetails clientDetails) {
 			this.decider = decider;
 			this.decider.initializeForScreen(clientDetails);
-			Optional<Class<? extends Component>> alternativeTargetType = this.decider.determineViewType(
+			if (this.decider.table.isModelShared) {
+				this.sharedModelContainer = new ModelContainer<>();
+			}
+			CottonResponsiveTable.Alternative alternative = this.decider.determineViewType(
 					clientDetails.getWindowInnerWidth(), clientDetails.getWindowInnerHeight());
-			injectAlternative(alternativeTargetType.orElse(this.decider.routeTargetType));
+			injectAlternative(alternative.viewType);
+
+			// THE CLIENT ONLY REPORTS RESIZES THAT CROSS THE BOUNDARY OF ONE OF THE ALTERNATIVES
+			getElement().executeJs(BOUNDARY_LISTENER_SCRIPT, this.decider.toClientBoundaries(),
+					this.decider.indexOf(alternative));
+
+			prewarmNeighbour(clientDetails.getWindowInnerWidth(), clientDetails.getWindowInnerHeight());
 		}
 
-		@Override
-		public void browserWindowResized(BrowserWindowResizeEvent resizeEvent) {
+		@ClientCallable
+		void boundaryCrossed(int width, int height) {
 			if (this.decider.isScreenAsyncAdaptive) {
-				boolean beginTask = false;
+				CottonUI cottonUI = CottonUI.current();
+				MetricsTrail trail = MetricsTrailSupport.has() ? MetricsTrailSupport.get() : null;
 				synchronized (this) {
 					this.resizeWaitMs = System.currentTimeMillis() + this.responsiveAdaptionWaitMs;
-					if (this.resizeDimension == null) {
-						this.resizeDimension = Pair.of(resizeEvent.getWidth(), resizeEvent.getHeight());
-						beginTask = true;
+					this.resizeDimension = Pair.of(width, height);
+					this.resizeCount++;
+					if (this.adaption == null) {
+						this.resizeBeginMs = System.currentTimeMillis();
+						this.adaption = this.adaptionScheduler.schedule(() -> adaptAfterWait(cottonUI, trail),
+								this.responsiveAdaptionWaitMs, TimeUnit.MILLISECONDS);
 					}
 				}
+			} else {
+				adapt(width, height, Responsive.ScreenClass.AdaptionMode.PERFORM, 1, System.currentTimeMillis());
+			}
+		}
 
-				if (beginTask) {
-					CottonUI cottonUI = CottonUI.current();
-					this.executorService.execute(() -> {
+		private void adaptAfterWait(CottonUI cottonUI, MetricsTrail trail) {
+			Pair<Integer, Integer> resizeDimension;
+			int resizeCount;
+			long resizeBeginMs;
+			synchronized (this) {
+				// FURTHER RESIZES HAVE OCCURRED MEANWHILE; RESCHEDULE INSTEAD OF BLOCKING THE SCHEDULER
+				long waitMs = this.resizeWaitMs - System.currentTimeMillis();
+				if (waitMs > 0) {
+					this.adaption = this.adaptionScheduler.schedule(() -> adaptAfterWait(cottonUI, trail),
+							waitMs, TimeUnit.MILLISECONDS);
+					return;
+				}
+				resizeDimension = this.resizeDimension;
+				resizeCount = this.resizeCount;
+				resizeBeginMs = this.resizeBeginMs;
+				this.resizeDimension = null;
+				this.resizeCount = 0;
+				this.adaption = null;
+			}
+
+			// THE SCHEDULER IS SHARED BY ALL WRAPPERS AND ONLY TIMES THE ADAPTION; IF THE SESSION IS NOT LOCKED, ACCESSING
+			// THE UI RUNS THE ADAPTION ON THE CALLING THREAD, SO A SLOW VIEW WOULD BLOCK THE ADAPTION OF ALL OTHER SESSIONS
+			CottonExecutors.background().execute(() -> {
+				try {
+					cottonUI.access(() -> {
+						boolean bindTrail = trail != null && !MetricsTrailSupport.has();
+						if (bindTrail) {
+							MetricsTrailSupport.bind(trail);
+						}
 						try {
-							while (true) {
-								long waitMs;
-								synchronized (CottonResponsiveWrapper.this) {
-									waitMs = this.resizeWaitMs - System.currentTimeMillis();
-								}
-								if (waitMs <= 0) {
-									break;
-								}
-								Thread.sleep(waitMs);
+							adapt(resizeDimension.getLeft(), resizeDimension.getRight(),
+									Responsive.ScreenClass.AdaptionMode.PERFORM, resizeCount, resizeBeginMs);
+						} finally {
+							if (bindTrail) {
+								MetricsTrailSupport.release();
 							}
-						} catch (InterruptedException e) {
-							LOGGER.warn("Unable to wait for responsive adaption; adapting immediately.", e);
-						}
-
-						synchronized (CottonResponsiveWrapper.this) {
-							Pair<Integer, Integer> resizeDimension = this.resizeDimension;
-							this.resizeDimension = null;
-							cottonUI.access(() -> adaptIfRequired(resizeDimension.getLeft(),
-									resizeDimension.getRight(), Responsive.ScreenClass.AdaptionMode.PERFORM));
 						}
 					});
+				} catch (UIDetachedException e) {
+					// THE UI HAS BEEN CLOSED WHILE WAITING; THERE IS NOTHING LEFT TO ADAPT
 				}
-			} else {
-				adaptIfRequired(resizeEvent.getWidth(), resizeEvent.getHeight(), Responsive.ScreenClass.AdaptionMode.PERFORM);
-			}
+			});
 		}
 
 		void adaptIfRequired(int width, int height, Responsive.ScreenClass.AdaptionMode sourceAdaptionMode) {
-			Class<? extends Component> targetViewType = this.decider.determineViewType(width, height)
-					.orElse(this.decider.routeTargetType);
-			Responsive.ScreenClass.AdaptionMode adaptionMode = Optional
-					.ofNullable(targetViewType.getAnnotation(Responsive.ScreenClass.class))
-					.map(Responsive.ScreenClass::automaticAdaptionMode)
-					.map(targetAdaptionMode -> Responsive.ScreenClass.AdaptionMode.combine(sourceAdaptionMode, targetAdaptionMode))
-					.orElse(sourceAdaptionMode);
-
-			if (getChildren().noneMatch(child -> child.getClass() == targetViewType)) {
+			adapt(width, height, sourceAdaptionMode, 0, System.currentTimeMillis());
+		}
+
+		private void adapt(int width, int height, Responsive.ScreenClass.AdaptionMode sourceAdaptionMode,
+						   int resizeCount, long resizeBeginMs) {
+			CottonResponsiveTable.Alternative targetAlternative = this.decider.determineViewType(width, height);
+			Class<? extends Component> targetViewType = targetAlternative.viewType;
+			Responsive.ScreenClass.AdaptionMode adaptionMode = targetAlternative.adaptionMode == null ? sourceAdaptionMode :
+					Responsive.ScreenClass.AdaptionMode.combine(sourceAdaptionMode, targetAlternative.adaptionMode);
+
+			Class<? extends Component> sourceViewType = getChildren().findFirst().map(Component::getClass).orElse(null);
+			String outcome;
+			if (sourceViewType != targetViewType) {
 				BeforeResponsiveRefreshEvent event = new BeforeResponsiveRefreshEvent(CottonUI.current(), adaptionMode);
 				CottonUI.getCurrent().getNavigationListeners(CottonUI.BeforeResponsiveRefreshListener.class).
 						forEach(listener -> listener.beforeRefresh(event));
@@ -337,19 +614,44 @@ class CottonServletService extends VaadinServletService {
 				if (event.isAccepted()) {
 					getChildren().forEach(this.injector::destroy);
 					injectAlternative(targetViewType);
+					prewarmNeighbour(width, height);
 
 					AfterResponsiveRefreshEvent afterEvent = new AfterResponsiveRefreshEvent(CottonUI.current());
 					CottonUI.getCurrent().getNavigationListeners(CottonUI.AfterResponsiveRefreshListener.class).
 							forEach(listener -> listener.afterRefresh(afterEvent));
+					outcome = "PERFORMED";
+				} else {
+					// THE CLIENT HAS ALREADY ADVANCED TO THE DECLINED BOUNDARY; RESET IT SO THE NEXT RESIZE IS REPORTED AGAIN
+					getElement().executeJs(BOUNDARY_RESET_SCRIPT);
+					outcome = "DECLINED";
 				}
+			} else {
+				outcome = "UNCHANGED";
 			}
+
+			MetricsTrailSupport.commit(CottonMetrics.RESPONSIVE_ADAPTION.build(
+					new Measurement("simpleName", this.decider.routeTargetType.getSimpleName(), MeasurementType.STRING),
+					new Measurement("name", this.decider.routeTargetType.getName(), MeasurementType.STRING),
+					new Measurement("fromName", sourceViewType == null ? null : sourceViewType.getName(), MeasurementType.STRING),
+					new Measurement("toName", targetViewType.getName(), MeasurementType.STRING),
+					new Measurement("outcome", outcome, MeasurementType.STRING),
+					new Measurement("adaptionMode", adaptionMode.name(), MeasurementType.STRING),
+					new Measurement("resizeCount", String.valueOf(resizeCount), MeasurementType.INTEGER),
+					new Measurement("debouncedCount", String.valueOf(Math.max(0, resizeCount - 1)), MeasurementType.INTEGER),
+					new Measurement("waitMs", String.valueOf(this.responsiveAdaptionWaitMs), MeasurementType.LONG),
+					new Measurement("switchDuration", String.valueOf(System.currentTimeMillis() - resizeBeginMs), MeasurementType.LONG)));
 		}
 
 		private void injectAlternative(Class<? extends Component> targetViewType) {
 			removeAll();
 
 			long ms = System.currentTimeMillis();
-			add(this.injector.instantiate(targetViewType));
+			if (this.prewarmedView != null && this.prewarmedView.getClass() == targetViewType) {
+				add(this.prewarmedView);
+				this.prewarmedView = null;
+			} else {
+				add(instantiateAlternative(targetViewType));
+			}
 			ms = System.currentTimeMillis() - ms;
 
 			Event metric = CottonMetrics.SYSTEM_INJECTION.build(
@@ -363,23 +665,88 @@ class CottonServletService extends VaadinServletService {
 			MetricsTrailSupport.commit(metric);
 		}
 
+		private void prewarmNeighbour(int width, int height) {
+			if (this.responsivePrewarming) {
+				CottonResponsiveTable.Alternative neighbour = this.decider.determineNeighbourViewType(width, height);
+				Class<? extends Component> neighbourViewType = neighbour == null ? null : neighbour.viewType;
+				if (this.prewarmedView != null && this.prewarmedView.getClass() != neighbourViewType) {
+					this.injector.destroy(this.prewarmedView);
+					this.prewarmedView = null;
+				}
+
+				// INSTANTIATE AFTER THE CURRENT REQUEST HAS RELEASED THE SESSION, SO ITS RESPONSE IS NOT DELAYED
+				if (neighbourViewType != null && this.prewarmedView == null) {
+					CottonUI cottonUI = CottonUI.current();
+					MetricsTrail trail = MetricsTrailSupport.has() ? MetricsTrailSupport.get() : null;
+					CottonExecutors.background().execute(() -> {
+						try {
+							cottonUI.access(() -> prewarm(neighbourViewType, trail));
+						} catch (UIDetachedException e) {
+							// THE UI HAS BEEN CLOSED MEANWHILE; THERE IS NOTHING TO PREWARM FOR
+						}
+					});
+				}
+			}
+		}
+
+		private void prewarm(Class<? extends Component> neighbourViewType, MetricsTrail trail) {
+			if (this.injector.isActive() && this.prewarmedView == null && getChildren()
+					.noneMatch(child -> child.getClass() == neighbourViewType)) {
+				boolean bindTrail = trail != null && !MetricsTrailSupport.has();
+				if (bindTrail) {
+					MetricsTrailSupport.bind(trail);
+				}
+				try {
+					this.prewarmedView = instantiateAlternative(neighbourViewType);
+				} finally {
+					if (bindTrail) {
+						MetricsTrailSupport.release();
+					}
+				}
+			}
+		}
+
+		private Component instantiateAlternative(Class<? extends Component> viewType) {
+			// THE SHARED CONTAINER IS OWNED BY THE WRAPPER, SO IT OUTLIVES THE ALTERNATIVES THAT ARE DESTROYED ON A SWITCH
+			if (this.sharedModelContainer != null) {
+				return this.injector.instantiate(viewType, Blueprint.SingletonAllocation.
+						allocateToInstance(ModelContainer.SID_CONTAINER, this.sharedModelContainer));
+			} else {
+				return this.injector.instantiate(viewType);
+			}
+		}
+
 		@PostDestroy
 		private void destroy() {
-			this.registration.remove();
+			synchronized (this) {
+				if (this.adaption != null) {
+					this.adaption.cancel(false);
+					this.adaption = null;
+				}
+			}
+			if (this.prewarmedView != null && this.injector.isActive()) {
+				this.injector.destroy(this.prewarmedView);
+			}
+			this.prewarmedView = null;
 		}
 	}
 
 	private final Injector serviceInjector;
 	private final Localizer localizer;
 	private final AccessHandler accessHandler;
+	private final CottonStartupProfile startupProfile;
 	private final String applicationInitializerClass;
 	private final String applicationBasePackage;
 	private final boolean automaticRouteDiscovery;
+	private final CottonClassFileScanner routeScanner;
+	private final ScheduledExecutorService scheduler;
+	private final Map<Class<?>, CottonResponsiveTable> responsiveTables = new ConcurrentHashMap<>();
 
 	CottonServletService(@Inject @Qualifier(CottonServlet.SID_SERVLET) VaadinServlet servlet,
 						 @Inject @Qualifier(CottonServlet.SID_DEPLOYMENTCONFIG) DeploymentConfiguration deploymentConfiguration,
 						 @Inject @Qualifier(Localizer.SID_LOCALIZER) Localizer localizer,
 						 @Inject @Qualifier(AccessHandler.SID_NAVIGATION_HANDLER) AccessHandler accessHandler,
+						 @Inject @Qualifier(CottonStartupProfile.SID_STARTUP_PROFILE) CottonStartupProfile startupProfile,
 						 @Inject Injector serviceInjector,
 						 @Resolve("${" + CottonServlet.PID_INITIALIZERCLASS + "}") String applicationInitializerClass,
 						 @Resolve("${" + CottonServlet.PID_BASEPACKAGE + "}") String applicationBasePackage,
@@ -388,9 +755,20 @@ class CottonServletService extends VaadinServletService {
 		this.serviceInjector = serviceInjector;
 		this.localizer = localizer;
 		this.accessHandler = accessHandler;
+		this.startupProfile = startupProfile;
 		this.applicationInitializerClass = applicationInitializerClass;
 		this.applicationBasePackage = applicationBasePackage;
 		this.automaticRouteDiscovery = Boolean.parseBoolean(automaticRouteDiscovery);
+		this.routeScanner = new CottonClassFileScanner(Route.class, RouteAlias.class, RouteAlias.Container.class);
+
+		// ONLY USED FOR TIMING; THE SCHEDULED WORK ITSELF IS HANDED TO COTTON'S BACKGROUND EXECUTOR OR THE SESSION'S LOCK
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "cotton-scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.setRemoveOnCancelPolicy(true);
+		this.scheduler = scheduler;
 	}
 
 	@Override
@@ -404,44 +782,59 @@ class CottonServletService extends VaadinServletService {
 
 		// DISCOVER ROUTES
 		if (this.automaticRouteDiscovery) {
-			Class<?> applicationInitializerClass = load(this.applicationInitializerClass);
-			String applicationBasePath = this.applicationBasePackage.replace('.', '/');
-			try {
-				URL url = applicationInitializerClass.getProtectionDomain().getCodeSource().getLocation();
-				if (FILE.equals(url.getProtocol())) {
-					File file = new File(url.toURI());
-					if (file.isDirectory()) {
-						getClasses(applicationBasePath).parallelStream().forEach(this::registerIfRoute);
-					} else if (file.getName().toLowerCase().endsWith(JAR)) {
-						readJar(new JarFile(file), applicationBasePath);
-					}
-				} else if(JAR.equals(url.getProtocol())) {
-					readJar(((JarFile) url.getContent()), applicationBasePath);
-				}
-			} catch (Exception e) {
-				throw new ServiceException("Automatic @" + Route.class.getSimpleName() + " detection failed", e);
+			long discoveryBegin = System.nanoTime();
+			Set<String> indexedTargets = new TreeSet<>();
+			boolean isIndexComplete = readRouteIndex(CottonServlet.class.getClassLoader(),
+					this.applicationBasePackage, indexedTargets);
+			LOGGER.debug("Registering " + indexedTargets.size() + " indexed route targets from '"
+					+ CottonRouteIndexProcessor.INDEX_LOCATION + "'");
+			this.startupProfile.count(CottonStartupProfile.COUNT_INDEXED_CLASSES, indexedTargets.size());
+			Set<Class<?>> indexedClasses = indexedTargets.parallelStream()
+					.map(CottonServletService::loadIndexed)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toSet());
+			Set<Class<?>> routeTargets = indexedClasses.stream()
+					.filter(CottonServletService::isRoute)
+					.collect(Collectors.toCollection(HashSet::new));
+
+			// MODULES COMPILED WITHOUT THE INDEX PROCESSOR OR WITH A STALE INDEX CAN ONLY BE COVERED BY SCANNING
+			if (!isIndexComplete || indexedClasses.size() < indexedTargets.size()) {
+				routeTargets.addAll(discoverRoutes());
 			}
+			this.startupProfile.phase(CottonStartupProfile.PHASE_ROUTE_DISCOVERY, CottonStartupProfile.PHASE_SERVICE, discoveryBegin);
+
+			long registrationBegin = System.nanoTime();
+			registerRoutes(routeTargets);
+			this.startupProfile.phase(CottonStartupProfile.PHASE_ROUTE_REGISTRATION, CottonStartupProfile.PHASE_SERVICE, registrationBegin);
+			this.startupProfile.count(CottonStartupProfile.COUNT_ROUTES, routeTargets.size());
 		}
 
+		// REGISTER PRIORITIZED ALIASES
+		long aliasBegin = System.nanoTime();
 		Set<String> forwardedPaths = new HashSet<>();
 		for (RouteData routeData: getRouter().getRegistry().getRegisteredRoutes()) {
-			List<PrioritizedRouteAlias> routeAliases = new ArrayList<>();
-			TypeEssentials.getSuperClassesAnnotatedWith(routeData.getNavigationTarget(),
-					PrioritizedRouteAlias.PrioritizedRouteAliases.class).stream().
-					map(c -> c.getAnnotation(PrioritizedRouteAlias.PrioritizedRouteAliases.class)).
-					flatMap(c -> Arrays.stream(c.value())).
-					forEach(routeAliases::add);
-			TypeEssentials.getSuperClassesAnnotatedWith(routeData.getNavigationTarget(),
-					PrioritizedRouteAlias.class).stream().
-					map(c -> c.getAnnotation(PrioritizedRouteAlias.class)).
-					forEach(routeAliases::add);
+			CottonTypeMetadata metadata = CottonTypeMetadata.of(routeData.getNavigationTarget());
+			if (metadata.isResponsive()) {
+				this.responsiveTables.computeIfAbsent(routeData.getNavigationTarget(), CottonResponsiveTable::new);
+			}
+
+			List<PrioritizedRouteAlias> routeAliases = metadata.getPrioritizedRouteAliases();
 			for (PrioritizedRouteAlias routeAlias: routeAliases) {
 				this.accessHandler.register(routeAlias.value(), routeData.getNavigationTarget(), routeAlias.priority());
 				forwardedPaths.add(routeAlias.value());
 			}
+			this.startupProfile.count(CottonStartupProfile.COUNT_ALIASES, routeAliases.size());
 		}
 		forwardedPaths.forEach(path -> getRouter().getRegistry().
 				setRoute(path, AccessHandler.ForwardingView.class, Collections.emptyList()));
+		this.startupProfile.phase(CottonStartupProfile.PHASE_ALIAS_REGISTRATION, CottonStartupProfile.PHASE_SERVICE, aliasBegin);
+
+		// PREPARE VIEW PLANS; THE PLANS THEMSELVES ARE CHEAP, THE TIME IS SPENT ON DISCOVERING THE PRESENTERS' LISTENERS
+		long planBegin = System.nanoTime();
+		Set<Class<? extends Component>> viewTypes = getViewTypes();
+		viewTypes.parallelStream().forEach(CottonServletService::prepareView);
+		this.startupProfile.phase(CottonStartupProfile.PHASE_VIEW_PLANS, CottonStartupProfile.PHASE_SERVICE, planBegin);
+		this.startupProfile.count(CottonStartupProfile.COUNT_VIEWS, viewTypes.size());
 
 		// REGISTER NAVIGATION ERROR VIEW
 		((ApplicationRouteRegistry) getRouteRegistry()).setErrorNavigationTargets(
@@ -452,25 +845,154 @@ class CottonServletService extends VaadinServletService {
 				MetricsTrailSupport.addPersistentHook(consumer, MetricsTrailListener.ReferenceMode.WEAK));
 	}
 
+	// #################################################################################################################
+	// ################################################ TRAINING RUN ###################################################
+	// #################################################################################################################
+
+	private Set<Class<? extends Component>> getViewTypes() {
+		// COLLECT ALL VIEWS THAT MIGHT BE DISPLAYED, INCLUDING RESPONSIVE ALTERNATIVES
+		Set<Class<? extends Component>> viewTypes = new LinkedHashSet<>();
+		for (RouteData routeData: getRouter().getRegistry().getRegisteredRoutes()) {
+			viewTypes.add(routeData.getNavigationTarget());
+			CottonResponsiveTable table = this.responsiveTables.get(routeData.getNavigationTarget());
+			if (table != null) {
+				Arrays.stream(table.alternatives).forEach(alternative -> viewTypes.add(alternative.viewType));
+			}
+		}
+		return viewTypes;
+	}
+
+	static boolean prepareView(Class<? extends Component> viewType) {
+		// AN INVALID VIEW MUST NOT PREVENT THE SERVLET FROM STARTING; IT FAILS AGAIN WHEN IT IS INJECTED
+		try {
+			Presentable.PresentableProcessor.prepare(viewType);
+			return true;
+		} catch (RuntimeException e) {
+			LOGGER.error("Unable to prepare the presentation of view '" + viewType.getName()
+					+ "'; injecting the view will fail", e);
+			return false;
+		}
+	}
+
+	void train() {
+		Set<Class<? extends Component>> viewTypes = getViewTypes();
+		int initialized = initializeViews(viewTypes, CottonServletService.class.getClassLoader());
+
+		this.localizer.loadAll();
+
+		LOGGER.info("Training run initialized " + initialized + " of " + viewTypes.size()
+				+ " views and loaded all localizations");
+	}
+
+	static int initializeViews(Collection<Class<? extends Component>> viewTypes, ClassLoader classLoader) {
+		// VIEWS ARE NEVER INSTANTIATED, AS THAT WOULD RUN THE APPLICATION'S LIFECYCLE CALLBACKS OUTSIDE OF ANY SESSION
+		int initialized = 0;
+		for (Class<? extends Component> viewType: viewTypes) {
+			try {
+				Class.forName(viewType.getName(), true, classLoader);
+			} catch (ClassNotFoundException | LinkageError e) {
+				LOGGER.warn("Unable to initialize view '" + viewType.getName() + "' for the training run", e);
+				continue;
+			}
+			if (prepareView(viewType)) {
+				initialized++;
+			}
+		}
+		return initialized;
+	}
+
 	// #################################################################################################################
 	// ############################################### DISCOVER ROUTES #################################################
 	// #################################################################################################################
 
-	private void readJar(JarFile jarFile, String applicationBasePath) {
-		Collections.list(jarFile.entries()).parallelStream()
+	static boolean readRouteIndex(ClassLoader classLoader, String basePackage, Set<String> targets) throws ServiceException {
+		String basePath = basePackage.replace('.', '/');
+		boolean isComplete = true;
+		boolean isModuleFound = false;
+		try {
+			// EVERY MODULE CONTAINING THE BASE PACKAGE HAS TO HAVE AN INDEX, OTHERWISE ITS TARGETS WOULD BE MISSED
+			for (URL packageUrl: Collections.list(classLoader.getResources(basePath))) {
+				isModuleFound = true;
+				String packageLocation = StringUtils.removeEnd(packageUrl.toString(), "/");
+				String moduleLocation = packageLocation.substring(0, packageLocation.length() - basePath.length());
+				URLConnection index = new URL(moduleLocation + CottonRouteIndexProcessor.INDEX_LOCATION).openConnection();
+				index.setUseCaches(false);
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.getInputStream(), StandardCharsets.UTF_8))) {
+					List<String> lines = reader.lines().map(String::trim).collect(Collectors.toList());
+					if (lines.contains(CottonRouteIndexProcessor.INCOMPLETE_MARKER)) {
+						LOGGER.info("The index of module '" + moduleLocation + "' is incomplete, as it contains classes "
+								+ "inheriting their @" + Route.class.getSimpleName() + "; scanning the base package '"
+								+ basePackage + "' for @" + Route.class.getSimpleName() + "s");
+						isComplete = false;
+					}
+
+					// ONLY TARGETS IN THE APPLICATION'S BASE PACKAGE ARE REGISTERED, NO MATTER WHICH INDEX LISTS THEM
+					lines.stream()
+							.filter(line -> line.startsWith(basePackage + '.'))
+							.forEach(targets::add);
+				} catch (FileNotFoundException e) {
+					LOGGER.info("The module '" + moduleLocation + "' has not been compiled with the "
+							+ CottonRouteIndexProcessor.class.getSimpleName() + "; scanning the base package '"
+							+ basePackage + "' for @" + Route.class.getSimpleName() + "s");
+					isComplete = false;
+				}
+			}
+		} catch (IOException e) {
+			throw new ServiceException("Reading the @" + Route.class.getSimpleName() + " index failed", e);
+		}
+		return isComplete && isModuleFound;
+	}
+
+	private Set<Class<?>> discoverRoutes() throws ServiceException {
+		Class<?> applicationInitializerClass = load(this.applicationInitializerClass);
+		String applicationBasePath = this.applicationBasePackage.replace('.', '/');
+		try {
+			URL url = applicationInitializerClass.getProtectionDomain().getCodeSource().getLocation();
+			if (FILE.equals(url.getProtocol())) {
+				File file = new File(url.toURI());
+				if (file.isDirectory()) {
+					return getClasses(applicationBasePath).parallelStream()
+							.filter(CottonServletService::isRoute)
+							.collect(Collectors.toSet());
+				} else if (file.getName().toLowerCase().endsWith(JAR)) {
+					return readJar(new JarFile(file), applicationBasePath);
+				}
+			} else if(JAR.equals(url.getProtocol())) {
+				return readJar(((JarFile) url.getContent()), applicationBasePath);
+			}
+			return Collections.emptySet();
+		} catch (Exception e) {
+			throw new ServiceException("Automatic @" + Route.class.getSimpleName() + " detection failed", e);
+		}
+	}
+
+	private Set<Class<?>> readJar(JarFile jarFile, String applicationBasePath) {
+		return Collections.list(jarFile.entries()).parallelStream()
 				.filter(e -> e.getName().startsWith(applicationBasePath) && e.getName().endsWith(".class"))
-				.forEach(e -> registerIfRoute(load(e.getName().replace('/', '.').replace(".class", ""))));
+				.filter(e -> isCandidate(() -> jarFile.getInputStream(e), e.getName()))
+				.map(e -> load(e.getName().replace('/', '.').replace(".class", "")))
+				.filter(CottonServletService::isRoute)
+				.collect(Collectors.toSet());
+	}
+
+	private static boolean isRoute(Class<?> clazz) {
+		return Component.class.isAssignableFrom(clazz) && (clazz.isAnnotationPresent(Route.class) || clazz.isAnnotationPresent(RouteAlias.class));
 	}
 
-	private <C extends Component & HasUrlParameter<String>> void registerIfRoute(Class<?> clazz) {
-		if (Component.class.isAssignableFrom(clazz) && (clazz.isAnnotationPresent(Route.class) || clazz.isAnnotationPresent(RouteAlias.class))) {
-			Class<? extends Component> routeTarget = (Class<? extends Component>) clazz;
-			RouteConfiguration router = RouteConfiguration.forRegistry(getRouter().getRegistry());
-			router.setAnnotatedRoute(routeTarget);
-			router.getAvailableRoutes().stream()
-					.filter(route -> route.getNavigationTarget().equals(clazz))
-					.findFirst()
-					.ifPresent(route -> LOGGER.debug("Routing '" + clazz.getSimpleName() + "' to '" + route.getTemplate() + "'"));
+	@SuppressWarnings("unchecked")
+	private void registerRoutes(Set<Class<?>> routeTargets) {
+		// CANDIDATES ARE COLLECTED IN PARALLEL, BUT REGISTERED BY A SINGLE THREAD IN A STABLE ORDER AND A SINGLE UPDATE
+		List<Class<? extends Component>> orderedTargets = routeTargets.stream()
+				.map(clazz -> (Class<? extends Component>) clazz)
+				.sorted(Comparator.comparing(Class::getName))
+				.collect(Collectors.toList());
+
+		RouteConfiguration router = RouteConfiguration.forRegistry(getRouter().getRegistry());
+		router.update(() -> orderedTargets.forEach(router::setAnnotatedRoute));
+
+		if (LOGGER.isDebugEnabled()) {
+			orderedTargets.forEach(routeTarget -> router.getTemplate(routeTarget).ifPresent(template ->
+					LOGGER.debug("Routing '" + routeTarget.getSimpleName() + "' to '" + template + "'")));
 		}
 	}
 
@@ -504,21 +1026,57 @@ class CottonServletService extends VaadinServletService {
 				if (!file.getName().contains(".")) {
 					classes.addAll(findClasses(file, packageName + "." + file.getName()));
 				}
-			} else if (file.getName().endsWith(".class")) {
+			} else if (file.getName().endsWith(".class") &&
+					isCandidate(() -> new FileInputStream(file), file.getPath())) {
 				classes.add(load(packageName + '.' + file.getName().replace(".class", "")));
 			}
 		});
 		return classes;
 	}
 
+	private boolean isCandidate(ClassFileSource source, String path) {
+		this.startupProfile.count(CottonStartupProfile.COUNT_SCANNED_CLASSES, 1);
+		try (InputStream classFile = source.open()) {
+			return this.routeScanner.isCandidate(classFile);
+		} catch (IOException e) {
+			throw new Http500InternalServerErrorException("Unable to read class file '" + path
+					+ "' for automatic @" + Route.class.getSimpleName() + " detection", e);
+		}
+	}
+
+	private static Class<?> loadIndexed(String className) {
+		try {
+			return Class.forName(className, false, CottonServletService.class.getClassLoader());
+		} catch (ClassNotFoundException | LinkageError e) {
+			LOGGER.info("The indexed @" + Route.class.getSimpleName() + " target '" + className
+					+ "' cannot be loaded, so the index is stale; scanning the base package", e);
+			return null;
+		}
+	}
+
 	private Class<?> load(String className) {
 		try {
-			return Class.forName(className);
+			// ONLY ROUTE CANDIDATES ARE LOADED; THEIR STATIC STATE IS INITIALIZED WHEN THEY ARE FIRST USED
+			return Class.forName(className, false, CottonServletService.class.getClassLoader());
 		} catch (ClassNotFoundException e) {
 			throw new Http500InternalServerErrorException("Unable to load class for automatic @" + Route.class.getSimpleName() + " detection", e);
 		}
 	}
 
+	// #################################################################################################################
+	// ############################################### DEVICE DESCRIPTION ##############################################
+	// #################################################################################################################
+
+	private static CottonDeviceDescriptor describe(VaadinSession session) {
+		// THE BROWSER CANNOT CHANGE DURING THE SESSION, SO IT IS DESCRIBED ONCE; THE CALLER HOLDS THE SESSION'S LOCK
+		CottonDeviceDescriptor descriptor = session.getAttribute(CottonDeviceDescriptor.class);
+		if (descriptor == null) {
+			descriptor = new CottonDeviceDescriptor(session.getBrowser());
+			session.setAttribute(CottonDeviceDescriptor.class, descriptor);
+		}
+		return descriptor;
+	}
+
 	// #################################################################################################################
 	// ############################################## SESSION INJECTION ################################################
 	// #################################################################################################################
@@ -551,6 +1109,12 @@ class CottonServletService extends VaadinServletService {
 		super.fireSessionDestroy(session);
 	}
 
+	@Override
+	public void destroy() {
+		this.scheduler.shutdownNow();
+		super.destroy();
+	}
+
 	// #################################################################################################################
 	// ############################################### TRAIL THREADING #################################################
 	// #################################################################################################################
@@ -576,16 +1140,12 @@ class CottonServletService extends VaadinServletService {
 						new Measurement("pushSessionId", session.getPushId(), MeasurementType.STRING)));
 
 				WebBrowser browser = session.getBrowser();
+				CottonDeviceDescriptor descriptor = describe(session);
 				MetricsTrailSupport.commit(CottonMetrics.SESSION_BROWSER_INFO.build(
 						new Measurement("application", browser.getBrowserApplication(), MeasurementType.STRING),
-						new Measurement("browserType", BrowserType.of(browser.isChrome(), browser.isEdge(), browser.isFirefox(),
-								browser.isIE(), browser.isOpera(), browser.isSafari()).name(), MeasurementType.STRING),
-						new Measurement("browserVersion", browser.getBrowserMajorVersion() + "." + browser.getBrowserMinorVersion(), MeasurementType.STRING),
-						new Measurement("systemEnvironment", SystemEnvironmentType.of(
-								Null.get(browser::isAndroid, false), Null.get(browser::isIPad, false),
-								Null.get(browser::isIPhone, false), Null.get(browser::isLinux, false),
-								Null.get(browser::isMacOSX, false), Null.get(browser::isWindows, false),
-								Null.get(browser::isWindowsPhone, false)).name(), MeasurementType.STRING)));
+						new Measurement("browserType", descriptor.browserType.name(), MeasurementType.STRING),
+						new Measurement("browserVersion", descriptor.browserVersion, MeasurementType.STRING),
+						new Measurement("systemEnvironment", descriptor.systemEnvironmentType.name(), MeasurementType.STRING)));
 			} else if (!MetricsTrailSupport.has()) {
 				MetricsTrailSupport.bind(session.getAttribute(MetricsTrail.class));
 			}
@@ -610,4 +1170,12 @@ class CottonServletService extends VaadinServletService {
 
 		super.requestEnd(request, response, session);
 	}
-}
\ No newline at end of file
+
+	ScheduledExecutorService getScheduler() {
+		return this.scheduler;
+	}
+
+	static CottonServletService current() {
+		return (CottonServletService) getCurrent();
+	}
+}
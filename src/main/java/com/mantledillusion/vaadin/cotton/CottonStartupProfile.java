@@ -0,0 +1,148 @@
+package com.mantledillusion.vaadin.cotton;
+
+import com.mantledillusion.metrics.trail.MetricsTrail;
+import com.mantledillusion.metrics.trail.MetricsTrailSupport;
+import com.mantledillusion.metrics.trail.api.Measurement;
+import com.mantledillusion.metrics.trail.api.MeasurementType;
+import com.mantledillusion.vaadin.cotton.metrics.CottonMetrics;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timeline of the phases a {@link CottonServlet} passes while starting up.
+ * <p>
+ * Phases are recorded in the order they complete by the thread starting the servlet; counters might be incremented
+ * by any thread. A phase might be nested into a parent phase, in which case its duration is part of its parent's.
+ */
+final class CottonStartupProfile {
+
+    static final String SID_STARTUP_PROFILE = "_startupProfile";
+
+    static final String PHASE_INJECTOR = "injector";
+    static final String PHASE_LOCALIZATION = "localization";
+    static final String PHASE_ERROR_HANDLER = "errorHandler";
+    static final String PHASE_SERVICE = "service";
+    static final String PHASE_ROUTE_DISCOVERY = "routeDiscovery";
+    static final String PHASE_ROUTE_REGISTRATION = "routeRegistration";
+    static final String PHASE_ALIAS_REGISTRATION = "aliasRegistration";
+    static final String PHASE_VIEW_PLANS = "viewPlans";
+
+    static final String COUNT_SCANNED_CLASSES = "scannedClasses";
+    static final String COUNT_INDEXED_CLASSES = "indexedClasses";
+    static final String COUNT_ROUTES = "routes";
+    static final String COUNT_ALIASES = "aliases";
+    static final String COUNT_VIEWS = "views";
+    static final String COUNT_BUNDLES = "localizationBundles";
+    static final String COUNT_LAZY_BUNDLES = "lazyLocalizationBundles";
+    static final String COUNT_LOCALES = "locales";
+
+    private final long begin = System.nanoTime();
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, String> parents = new LinkedHashMap<>();
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+
+    /**
+     * Records a phase that began at the given time and ended now.
+     *
+     * @param phase The phase's name; might <b>not</b> be null.
+     * @param beginNanos The {@link System#nanoTime()} the phase began at.
+     */
+    synchronized void phase(String phase, long beginNanos) {
+        this.phases.merge(phase, System.nanoTime() - beginNanos, Long::sum);
+    }
+
+    /**
+     * Records a phase that began at the given time and ended now as part of the given parent phase.
+     *
+     * @param phase The phase's name; might <b>not</b> be null.
+     * @param parentPhase The name of the phase the phase is part of; might <b>not</b> be null.
+     * @param beginNanos The {@link System#nanoTime()} the phase began at.
+     */
+    synchronized void phase(String phase, String parentPhase, long beginNanos) {
+        this.parents.put(phase, parentPhase);
+        phase(phase, beginNanos);
+    }
+
+    /**
+     * Adds to a counter of the startup.
+     *
+     * @param counter The counter's name; might <b>not</b> be null.
+     * @param count The count to add.
+     */
+    synchronized void count(String counter, long count) {
+        this.counts.merge(counter, count, Long::sum);
+    }
+
+    /**
+     * Commits the profile as {@link CottonMetrics#SYSTEM_STARTUP} event and logs a summary of it.
+     *
+     * @param servletName The name of the servlet that started up; might <b>not</b> be null.
+     * @param logger The logger to log the summary to; might <b>not</b> be null.
+     */
+    synchronized void commit(String servletName, Logger logger) {
+        long total = System.nanoTime() - this.begin;
+
+        List<Measurement> measurements = new ArrayList<>();
+        measurements.add(new Measurement("servlet", servletName, MeasurementType.STRING));
+        measurements.add(new Measurement("totalDuration", String.valueOf(total), MeasurementType.LONG));
+        this.phases.forEach((phase, nanos) -> measurements.add(
+                new Measurement(phase + "Duration", String.valueOf(nanos), MeasurementType.LONG)));
+        this.counts.forEach((counter, count) -> measurements.add(
+                new Measurement(counter + "Count", String.valueOf(count), MeasurementType.LONG)));
+
+        // THE STARTUP HAPPENS OUTSIDE OF ANY SESSION, SO IT IS COMMITTED ON A TRAIL OF ITS OWN
+        boolean ownTrail = !MetricsTrailSupport.has();
+        if (ownTrail) {
+            MetricsTrailSupport.begin();
+        }
+        MetricsTrail trail = MetricsTrailSupport.get();
+        MetricsTrailSupport.commit(CottonMetrics.SYSTEM_STARTUP.build(measurements.toArray(new Measurement[0])));
+        if (ownTrail) {
+            MetricsTrailSupport.release();
+            MetricsTrailSupport.end(trail);
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info(summarize(servletName, total));
+        }
+    }
+
+    synchronized String summarize(String servletName, long totalNanos) {
+        StringBuilder summary = new StringBuilder("Started ").append(servletName).append(" in ")
+                .append(toMillis(totalNanos)).append("ms");
+        this.phases.forEach((phase, nanos) -> {
+            // NESTED PHASES ARE LISTED WITHIN THEIR PARENT, SO NO TIME APPEARS TWICE ON THE SAME LEVEL
+            if (!this.parents.containsKey(phase)) {
+                summary.append("; ");
+                appendPhase(summary, phase, nanos);
+            }
+        });
+        this.counts.forEach((counter, count) -> summary.append("; ").append(counter).append(": ").append(count));
+        return summary.toString();
+    }
+
+    private void appendPhase(StringBuilder summary, String phase, long nanos) {
+        summary.append(phase).append(": ").append(toMillis(nanos)).append("ms");
+        String separator = " (";
+        for (Map.Entry<String, String> child: this.parents.entrySet()) {
+            if (child.getValue().equals(phase) && this.phases.containsKey(child.getKey())) {
+                summary.append(separator);
+                appendPhase(summary, child.getKey(), this.phases.get(child.getKey()));
+                separator = ", ";
+            }
+        }
+        if (!separator.equals(" (")) {
+            summary.append(')');
+        }
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
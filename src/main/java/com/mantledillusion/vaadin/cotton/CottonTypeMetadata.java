@@ -0,0 +1,124 @@
+package com.mantledillusion.vaadin.cotton;
+
+import com.mantledillusion.vaadin.cotton.viewpresenter.PrioritizedRouteAlias;
+import com.mantledillusion.vaadin.cotton.viewpresenter.Responsive;
+import com.mantledillusion.vaadin.cotton.viewpresenter.Restricted;
+import com.vaadin.flow.component.page.Push;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Memoized view of the Cotton annotations of a single {@link Class}.
+ * <p>
+ * The metadata of a {@link Class} is determined once per {@link Class}; annotations of the super classes are taken
+ * from the metadata of the direct super class, so shared base classes are only ever inspected once.
+ */
+final class CottonTypeMetadata {
+
+    private static final CottonTypeMetadata NONE = new CottonTypeMetadata();
+
+    private static final ClassValue<CottonTypeMetadata> METADATA = new ClassValue<CottonTypeMetadata>() {
+
+        @Override
+        protected CottonTypeMetadata computeValue(Class<?> type) {
+            return new CottonTypeMetadata(type);
+        }
+    };
+
+    private final List<PrioritizedRouteAlias> prioritizedRouteAliases;
+    private final List<Restricted> restrictions;
+    private final Responsive responsive;
+    private final Responsive.DeviceClass deviceClass;
+    private final Responsive.ScreenClass screenClass;
+    private final boolean isPushAnnotated;
+
+    private CottonTypeMetadata() {
+        this.prioritizedRouteAliases = Collections.emptyList();
+        this.restrictions = Collections.emptyList();
+        this.responsive = null;
+        this.deviceClass = null;
+        this.screenClass = null;
+        this.isPushAnnotated = false;
+    }
+
+    private CottonTypeMetadata(Class<?> type) {
+        CottonTypeMetadata superMetadata = type.getSuperclass() == null ? NONE : of(type.getSuperclass());
+
+        // THE TYPE'S OWN ANNOTATIONS COME FIRST, THE ONES OF ITS SUPER CLASSES AFTER
+        List<PrioritizedRouteAlias> prioritizedRouteAliases = new ArrayList<>();
+        PrioritizedRouteAlias.PrioritizedRouteAliases aliases = type.getAnnotation(PrioritizedRouteAlias.PrioritizedRouteAliases.class);
+        if (aliases != null) {
+            prioritizedRouteAliases.addAll(Arrays.asList(aliases.value()));
+        }
+        PrioritizedRouteAlias alias = type.getAnnotation(PrioritizedRouteAlias.class);
+        if (alias != null) {
+            prioritizedRouteAliases.add(alias);
+        }
+        prioritizedRouteAliases.addAll(superMetadata.prioritizedRouteAliases);
+        this.prioritizedRouteAliases = Collections.unmodifiableList(prioritizedRouteAliases);
+
+        List<Restricted> restrictions = new ArrayList<>();
+        Restricted restricted = type.getAnnotation(Restricted.class);
+        if (restricted != null) {
+            restrictions.add(restricted);
+        }
+        restrictions.addAll(superMetadata.restrictions);
+        this.restrictions = Collections.unmodifiableList(restrictions);
+
+        this.responsive = type.getAnnotation(Responsive.class);
+        this.deviceClass = type.getAnnotation(Responsive.DeviceClass.class);
+        this.screenClass = type.getAnnotation(Responsive.ScreenClass.class);
+        this.isPushAnnotated = type.isAnnotationPresent(Push.class);
+    }
+
+    /**
+     * Returns the metadata of the given type.
+     *
+     * @param type The type to return the metadata of; might <b>not</b> be null.
+     * @return The metadata, never null
+     */
+    static CottonTypeMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * Returns all @{@link PrioritizedRouteAlias}es of the type and its super classes.
+     *
+     * @return The aliases, never null, might be empty
+     */
+    List<PrioritizedRouteAlias> getPrioritizedRouteAliases() {
+        return this.prioritizedRouteAliases;
+    }
+
+    /**
+     * Returns all @{@link Restricted} annotations of the type and its super classes.
+     *
+     * @return The restrictions, never null, might be empty
+     */
+    List<Restricted> getRestrictions() {
+        return this.restrictions;
+    }
+
+    boolean isResponsive() {
+        return this.responsive != null;
+    }
+
+    Responsive getResponsive() {
+        return this.responsive;
+    }
+
+    Responsive.DeviceClass getDeviceClass() {
+        return this.deviceClass;
+    }
+
+    Responsive.ScreenClass getScreenClass() {
+        return this.screenClass;
+    }
+
+    boolean isPushAnnotated() {
+        return this.isPushAnnotated;
+    }
+}
@@ -17,6 +17,7 @@ import com.mantledillusion.vaadin.cotton.exception.http500.Http500InternalServer
 import com.mantledillusion.vaadin.cotton.exception.http900.Http900NoSessionContextException;
 import com.mantledillusion.vaadin.cotton.exception.http900.Http901IllegalArgumentException;
 import com.mantledillusion.vaadin.cotton.exception.http900.Http903NotImplementedException;
+import com.mantledillusion.vaadin.cotton.model.ModelContainer;
 import com.mantledillusion.vaadin.cotton.viewpresenter.Responsive;
 import com.mantledillusion.vaadin.cotton.viewpresenter.Responsive.ScreenClass;
 import com.vaadin.flow.component.*;
@@ -31,6 +32,8 @@ public final class CottonUI extends UI {
 	private static final long serialVersionUID = 1L;
 
 	private static final Method REGISTER_LISTENER;
+	private static final Blueprint.PropertyAllocation NON_ISOLATED_BUS = Blueprint.PropertyAllocation.
+			of(Bus.PROPERTY_BUS_ISOLATION, Boolean.FALSE.toString());
 
 	static {
 		try {
@@ -121,8 +124,9 @@ public final class CottonUI extends UI {
 
 	<T extends HasElement> T exchangeInjectedView(Class<T> type) {
 		this.uiInjector.destroyAll();
-		return this.uiInjector.instantiate(type,
-				Blueprint.PropertyAllocation.of(Bus.PROPERTY_BUS_ISOLATION, Boolean.FALSE.toString()));
+		// HURA RESOLVES CONSTRUCTORS, FIELDS AND PROCESSORS ITSELF; ONLY THE PRESENTATION IS PLANNED AHEAD BY COTTON
+		return this.uiInjector.instantiate(type, NON_ISOLATED_BUS,
+				Blueprint.SingletonAllocation.allocateToInstance(ModelContainer.SID_VIEWTYPE, type));
 	}
 
 	@Override
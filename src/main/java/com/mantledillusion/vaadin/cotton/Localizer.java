@@ -17,6 +17,8 @@ import java.util.Objects;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.collections4.SetUtils;
@@ -159,11 +161,61 @@ class Localizer implements I18NProvider {
 		private final Locale locale;
 		private final Map<String, ResourceBundle> bundles = new HashMap<>();
 		private final Map<String, Evaluateable> evaluateables = new HashMap<>();
+		private final List<CottonEnvironment.LocalizationRegistration> lazyRegistrations = new ArrayList<>();
+		private volatile boolean lazyLoaded = true;
 
 		LocalizationResource(Locale locale) {
 			this.locale = locale;
 		}
 
+		void addLazyBundle(CottonEnvironment.LocalizationRegistration registration) {
+			this.lazyRegistrations.add(registration);
+			this.lazyLoaded = false;
+		}
+
+		private void loadLazyBundles() {
+			if (!this.lazyLoaded) {
+				synchronized (this.lazyRegistrations) {
+					if (!this.lazyLoaded) {
+						long begin = System.nanoTime();
+						List<RuntimeException> failures = this.lazyRegistrations.parallelStream()
+								.map(LocalizationResource::tryLoad)
+								.collect(Collectors.toList());
+
+						// A BROKEN BUNDLE IS REPORTED ONCE AND LEFT OUT; ITS MESSAGES ARE NOT LOCALIZED FOR THE LANGUAGE
+						for (int i = 0; i < this.lazyRegistrations.size(); i++) {
+							CottonEnvironment.LocalizationRegistration registration = this.lazyRegistrations.get(i);
+							RuntimeException failure = failures.get(i);
+							if (failure == null) {
+								try {
+									addBundle(registration.getBundle(), registration.getBundleKeys());
+								} catch (RuntimeException e) {
+									failure = e;
+								}
+							}
+							if (failure != null) {
+								LOGGER.error("Unable to lazily load a localization bundle of language '" + getLang()
+										+ "'; its messages will not be localized for that language", failure);
+							}
+						}
+						this.lazyRegistrations.clear();
+						this.lazyLoaded = true;
+						LOGGER.debug("Lazily loaded the localization bundles of language '" + getLang() + "' in "
+								+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin) + "ms");
+					}
+				}
+			}
+		}
+
+		static RuntimeException tryLoad(CottonEnvironment.LocalizationRegistration registration) {
+			try {
+				registration.load();
+				return null;
+			} catch (RuntimeException e) {
+				return e;
+			}
+		}
+
 		void addBundle(ResourceBundle bundle, Set<String> bundleKeys) {
 			Set<String> intersection = SetUtils.intersection(bundles.keySet(), bundleKeys);
 			if (intersection.isEmpty()) {
@@ -179,10 +231,12 @@ class Localizer implements I18NProvider {
 		}
 
 		private boolean hasLocalization(String msgId) {
+			loadLazyBundles();
 			return this.bundles.containsKey(msgId);
 		}
 
 		private String renderMessage(String msgId, Map<String, ?> namedMsgParameters, Object... indexedMsgParameters) {
+			loadLazyBundles();
 			if (this.bundles.containsKey(msgId)) {
 				Map<String, Object> params = new HashMap<>(
 						ObjectUtils.defaultIfNull(namedMsgParameters, Collections.emptyMap()));
@@ -269,6 +323,10 @@ class Localizer implements I18NProvider {
 		this.supportedLocales = Collections.unmodifiableList(supportedLocales);
 	}
 
+	void loadAll() {
+		this.resourceBundleRegistry.values().parallelStream().forEach(LocalizationResource::loadLazyBundles);
+	}
+
 	static String currentLang() {
 		return toLang(VaadinSession.getCurrent().getLocale());
 	}
@@ -3,6 +3,9 @@ package com.mantledillusion.vaadin.cotton;
 import com.mantledillusion.vaadin.cotton.exception.http900.Http901IllegalArgumentException;
 import com.vaadin.flow.component.Component;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Provider for automated login.
  * <p>
@@ -11,6 +14,7 @@ import com.vaadin.flow.component.Component;
  * Use one of the factory methods...<br>
  * - {@link #byView(Class)}<br>
  * - {@link #byUserProvider(UserProvider)}<br>
+ * - {@link #byAsyncUserProvider(AsyncUserProvider, Duration)}<br>
  * ... to for instantiation.
  */
 public final class LoginProvider {
@@ -35,12 +39,44 @@ public final class LoginProvider {
 		boolean isSilent();
 	}
 
+	/**
+	 * Provider for {@link User} instances when automated login is triggered, resolving them without blocking the
+	 * session.
+	 * <p>
+	 * While the resolution is pending, the navigation that triggered it is postponed; it is resumed using
+	 * {@link com.vaadin.flow.component.UI#access(com.vaadin.flow.server.Command)} once the resolution completes, so
+	 * server push should be enabled for the client to follow immediately.
+	 */
+	public interface AsyncUserProvider {
+
+		/**
+		 * Begins resolving a {@link User} instance to login.
+		 * <p>
+		 * Is called in the context of the session, but the returned future is expected to be completed outside of it.
+		 *
+		 * @return A future completing with a {@link User} instance or null if there is none to login; never null.
+		 */
+		CompletableFuture<User> provide();
+
+		/**
+		 * Determines whether or not a call to {@link #provide()} would go unnoticed by the client (no page forwardings etc).
+		 *
+		 * @return True if the client would not recognize the execution done by {@link #provide()}, false otherwise.
+		 */
+		boolean isSilent();
+	}
+
 	final Class<? extends Component> loginView;
 	final UserProvider userProvider;
+	final AsyncUserProvider asyncUserProvider;
+	final Duration asyncTimeout;
 
-	private LoginProvider(Class<? extends Component> loginView, UserProvider userProvider) {
+	private LoginProvider(Class<? extends Component> loginView, UserProvider userProvider,
+						  AsyncUserProvider asyncUserProvider, Duration asyncTimeout) {
 		this.loginView = loginView;
 		this.userProvider = userProvider;
+		this.asyncUserProvider = asyncUserProvider;
+		this.asyncTimeout = asyncTimeout;
 	}
 
 	/**
@@ -54,7 +90,7 @@ public final class LoginProvider {
 		if (loginViewType == null) {
 			throw new Http901IllegalArgumentException("Cannot create a login provider from a null login view");
 		}
-		return new LoginProvider(loginViewType, null);
+		return new LoginProvider(loginViewType, null, null, null);
 	}
 
 	/**
@@ -69,6 +105,26 @@ public final class LoginProvider {
 		if (userProvider == null) {
 			throw new Http901IllegalArgumentException("Cannot create a login provider from a null user provider");
 		}
-		return new LoginProvider(null, userProvider);
+		return new LoginProvider(null, userProvider, null, null);
+	}
+
+	/**
+	 * Factory method for creating a {@link LoginProvider} using an
+	 * {@link AsyncUserProvider}.
+	 * 
+	 * @param userProvider The {@link AsyncUserProvider} to use for login; might
+	 *                     <b>not</b> be null
+	 * @param timeout The time after which a pending resolution is given up, as if
+	 *                there was no {@link User} to login; might <b>not</b> be null,
+	 *                has to be positive
+	 * @return A new {@link LoginProvider}, never null
+	 */
+	public static final LoginProvider byAsyncUserProvider(AsyncUserProvider userProvider, Duration timeout) {
+		if (userProvider == null) {
+			throw new Http901IllegalArgumentException("Cannot create a login provider from a null user provider");
+		} else if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+			throw new Http901IllegalArgumentException("Cannot create a login provider with a null or non-positive timeout");
+		}
+		return new LoginProvider(null, null, userProvider, timeout);
 	}
 }
@@ -15,6 +15,10 @@ public interface User {
 	 * <P>
 	 * This method will be called whenever the {@link User} tries to navigate to a URL whose view
 	 * is @{@link Restricted} to {@link User}s with certain rights.
+	 * <P>
+	 * The rights of a {@link User} instance are assumed not to change while it is logged in, as the access modes of
+	 * audited bindings are only determined again when a different {@link User} instance logs in. To change the rights
+	 * of a logged in {@link User}, a new instance with the changed rights has to be logged in.
 	 * 
 	 * @param rightIds The IDs of the rights this {@link User} is asked to have; never null, might <b>not</b> be null.
 	 * @return True if the {@link User} owns <b>all</b> of the rights behind the given IDs, false otherwise.
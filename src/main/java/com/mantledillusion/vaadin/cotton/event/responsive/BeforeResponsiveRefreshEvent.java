@@ -23,6 +23,9 @@ public class BeforeResponsiveRefreshEvent extends EventObject {
 
     /**
      * Marks the requested @{@link ScreenClass} exchange to be declined.
+     * <p>
+     * A declined exchange is not remembered; it is requested again on the next resize of the browser window, until it
+     * is either accepted or the window is resized back to the currently displayed @{@link ScreenClass}.
      */
     public void decline() {
         this.adaptionMode = ScreenClass.AdaptionMode.combine(this.adaptionMode, ScreenClass.AdaptionMode.PROHIBIT);
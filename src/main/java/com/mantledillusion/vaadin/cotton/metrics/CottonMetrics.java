@@ -95,6 +95,23 @@ public enum CottonMetrics implements EnumeratedEvent {
      */
     SECURITY_USER_STATE,
 
+    /**
+     * ID for the {@link Event} when the resolution of a user to login automatically completes.
+     * <p>
+     * Metric ID: cotton.security.user.resolution
+     * <p>
+     * Contains the {@link Measurement} :<br>
+     * - 'outcome': The outcome of the resolution; either RESOLVED, UNRESOLVED, FAILED or TIMEOUT.<br>
+     * - 'duration': The duration in microseconds it took to complete the resolution.<br>
+     * - 'user': The identifier of the user resolved (may be null).<br>
+     * - 'simpleName': The simple {@link Class} name of the view whose navigation triggered the resolution.<br>
+     * - 'name': The fully qualified {@link Class} name of the view whose navigation triggered the resolution.<br>
+     * - 'durationP50': The median duration in microseconds of all resolutions triggered by the view.<br>
+     * - 'durationP99': The 99th percentile duration in microseconds of all resolutions triggered by the view.<br>
+     * - 'durationMax': The maximum duration in microseconds of all resolutions triggered by the view.<br>
+     */
+    SECURITY_USER_RESOLUTION,
+
     /**
      * ID for the {@link Event} when acces to a view is permitted.
      * <p>
@@ -104,6 +121,10 @@ public enum CottonMetrics implements EnumeratedEvent {
      * - 'simpleName': The simple {@link Class} name of the view access was permitted to.<br>
      * - 'name': The fully qualified {@link Class} name of the view access was permitted to.<br>
      * - 'user': The identifier of the user whose access was permitted.<br>
+     * - 'checkDuration': The duration in microseconds it took to check the access.<br>
+     * - 'checkDurationP50': The median duration in microseconds of all access checks of the view.<br>
+     * - 'checkDurationP99': The 99th percentile duration in microseconds of all access checks of the view.<br>
+     * - 'checkDurationMax': The maximum duration in microseconds of all access checks of the view.<br>
      */
     SECURITY_ACCESS_GRANTED,
 
@@ -116,8 +137,68 @@ public enum CottonMetrics implements EnumeratedEvent {
      * - 'simpleName': The simple {@link Class} name of the view access was denied to.<br>
      * - 'name': The fully qualified {@link Class} name of the view access was denied to.<br>
      * - 'user': The identifier of the user whose access was denied (may be null).<br>
+     * - 'checkDuration': The duration in microseconds it took to check the access.<br>
+     * - 'checkDurationP50': The median duration in microseconds of all access checks of the view.<br>
+     * - 'checkDurationP99': The 99th percentile duration in microseconds of all access checks of the view.<br>
+     * - 'checkDurationMax': The maximum duration in microseconds of all access checks of the view.<br>
+     */
+    SECURITY_ACCESS_DENIED,
+
+    /**
+     * ID for the {@link Event} when the bindings of a {@link com.mantledillusion.vaadin.cotton.model.ModelBinder} are
+     * audited again.
+     * <p>
+     * Metric ID: cotton.security.binding.audit
+     * <p>
+     * Contains the {@link Measurement} :<br>
+     * - 'simpleName': The simple {@link Class} name of the view the audited binder was injected into; the binder's own
+     * if it was not injected along with a view.<br>
+     * - 'name': The fully qualified {@link Class} name of the view the audited binder was injected into; the binder's
+     * own if it was not injected along with a view.<br>
+     * - 'reason': The reason for the audit; either LOGIN, AUDIT_MODE or AUDIT.<br>
+     * - 'bindingCount': The count of bindings audited.<br>
+     * - 'duration': The duration in microseconds it took to audit all bindings.<br>
+     * - 'durationP50': The median duration in microseconds of all binding audits of the view.<br>
+     * - 'durationP99': The 99th percentile duration in microseconds of all binding audits of the view.<br>
+     * - 'durationMax': The maximum duration in microseconds of all binding audits of the view.<br>
+     */
+    SECURITY_BINDING_AUDIT,
+
+    /**
+     * ID for the {@link Event} a responsive view creates when it evaluates whether to adapt to a changed screen.
+     * <p>
+     * Metric ID: cotton.responsive.adaption
+     * <p>
+     * Contains the {@link Measurement} :<br>
+     * - 'simpleName': The simple {@link Class} name of the @{@link com.vaadin.flow.router.Route}d view.<br>
+     * - 'name': The fully qualified {@link Class} name of the @{@link com.vaadin.flow.router.Route}d view.<br>
+     * - 'fromName': The fully qualified {@link Class} name of the alternative displayed before.<br>
+     * - 'toName': The fully qualified {@link Class} name of the alternative fitting the screen.<br>
+     * - 'outcome': Either PERFORMED, DECLINED (by a listener of the refresh) or UNCHANGED (alternative already displayed).<br>
+     * - 'adaptionMode': The adaption mode the refresh was requested with.<br>
+     * - 'resizeCount': The count of screen boundary crossings the client reported for this adaption; 0 if triggered manually.<br>
+     * - 'debouncedCount': The count of reported crossings that were merged into this adaption while waiting.<br>
+     * - 'waitMs': The wait time in milliseconds configured for merging crossings.<br>
+     * - 'switchDuration': The duration in milliseconds from the first reported crossing until the adaption completed.<br>
+     */
+    RESPONSIVE_ADAPTION,
+
+    /**
+     * ID for the {@link Event} a {@link com.mantledillusion.vaadin.cotton.CottonServlet} creates when it completed
+     * starting up.
+     * <p>
+     * Metric ID: cotton.system.startup
+     * <p>
+     * Contains the {@link Measurement} :<br>
+     * - 'servlet': The simple {@link Class} name of the servlet.<br>
+     * - 'totalDuration': The duration in nanoseconds from the servlet's instantiation until its service was initialized.<br>
+     * - '[phase]Duration': The duration in nanoseconds of a startup phase; the phases are injector, localization,
+     * errorHandler, service, routeDiscovery, routeRegistration, aliasRegistration and viewPlans, if they occurred; the
+     * service phase includes the routeDiscovery, routeRegistration, aliasRegistration and viewPlans phases.<br>
+     * - '[counter]Count': A count of the startup; the counters are scannedClasses, indexedClasses, routes, aliases, views,
+     * localizationBundles, lazyLocalizationBundles and locales, if they occurred.<br>
      */
-    SECURITY_ACCESS_DENIED;
+    SYSTEM_STARTUP;
 
     @Override
     public String getPrefix() {
@@ -0,0 +1,84 @@
+package com.mantledillusion.vaadin.cotton.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe histogram of latencies in nanoseconds.
+ * <p>
+ * Values are recorded into logarithmic buckets that are each divided into {@value #SUB_BUCKETS} linear sub buckets,
+ * so recording is constant in time and memory while values read back have a relative error of at most 1/{@value #SUB_BUCKETS}.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanos The latency in nanoseconds; negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        nanos = Math.max(0, nanos);
+        this.counts.incrementAndGet(indexOf(nanos));
+        this.count.incrementAndGet();
+        long currentMax;
+        while (nanos > (currentMax = this.max.get()) && !this.max.compareAndSet(currentMax, nanos));
+    }
+
+    /**
+     * Returns the count of latencies recorded.
+     *
+     * @return The count, &gt;=0
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Returns the highest latency recorded.
+     *
+     * @return The maximum in nanoseconds, 0 if nothing has been recorded yet
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns the latency below or at which the given percentage of all recorded latencies lie.
+     *
+     * @param percentile The percentile to determine; has to be in range [0..100].
+     * @return The latency in nanoseconds, 0 if nothing has been recorded yet
+     */
+    public long getPercentile(double percentile) {
+        long total = this.count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int index = 0; index < this.counts.length(); index++) {
+            seen += this.counts.get(index);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(index), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    private static int indexOf(long nanos) {
+        int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS - 1);
+        return (shift << SUB_BUCKET_BITS) + (int) (nanos >>> shift);
+    }
+
+    private static long upperBoundOf(int index) {
+        int shift = Math.max(0, (index >>> SUB_BUCKET_BITS) - 1);
+        long lowerBound = (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -65,7 +65,7 @@ public interface AuditingConfigurer<ConfigurerType> {
      * @return this.
      */
     default ConfigurerType setAudit(Binding.AccessMode mode, String rightId) {
-        return setAudit(mode, true, rightId == null ? null : Expression.of(rightId));
+        return setAudit(mode, true, rightId == null ? null : Auditor.ofRightId(rightId));
     }
 
     /**
@@ -1,47 +1,108 @@
 package com.mantledillusion.vaadin.cotton.model;
 
 import com.mantledillusion.essentials.expression.Expression;
+import com.mantledillusion.vaadin.cotton.User;
 import com.mantledillusion.vaadin.cotton.WebEnv;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 class Auditor {
 
-    private final Map<Binding.AccessMode, Pair<Boolean, Expression<String>>> audits;
-    private Supplier<Binding.AuditMode> auditModeSupplier = () -> Binding.AuditMode.GENEROUS;
+    private static final int RIGHT_EXPRESSION_CACHE_SIZE = 256;
+
+    /*
+    Right IDs are used as audits by arbitrarily many bindings, so only the most recently used ones are kept; an evicted
+    right ID just causes auditors not to be shared with bindings created before the eviction.
+     */
+    private static final Map<String, Expression<String>> RIGHT_EXPRESSIONS = Collections.synchronizedMap(
+            new LinkedHashMap<String, Expression<String>>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Expression<String>> eldest) {
+                    return size() > RIGHT_EXPRESSION_CACHE_SIZE;
+                }
+            });
 
-    Auditor(Auditor baseAuditor) {
-        this.audits = new EnumMap<>(Binding.AccessMode.class);
-        if (baseAuditor != null) {
-            baseAuditor.audits.forEach(this.audits::put);
-            this.auditModeSupplier = () -> baseAuditor.auditModeSupplier.get();
+    /**
+     * Hash-conses {@link Auditor}s, so all {@link Binding}s of a {@link ModelBinder} with an equal audit configuration
+     * share the same {@link Auditor} instance and with it, its audit outcome.
+     */
+    static final class Registry {
+
+        private final Map<Map<Binding.AccessMode, Pair<Boolean, Expression<String>>>, Auditor> auditors = new HashMap<>();
+        private final Auditor root;
+        private Binding.AuditMode auditMode = Binding.AuditMode.GENEROUS;
+
+        Registry() {
+            this.root = intern(new EnumMap<>(Binding.AccessMode.class));
         }
-    }
 
-    void setAuditMode(Binding.AuditMode mode) {
-        if (mode == null) {
-            throw new IllegalArgumentException("Cannot set a null audit mode");
+        Auditor getRoot() {
+            return this.root;
+        }
+
+        void setAuditMode(Binding.AuditMode mode) {
+            if (mode == null) {
+                throw new IllegalArgumentException("Cannot set a null audit mode");
+            }
+            this.auditMode = mode;
+        }
+
+        private synchronized Auditor intern(Map<Binding.AccessMode, Pair<Boolean, Expression<String>>> audits) {
+            return this.auditors.computeIfAbsent(audits, a -> new Auditor(this, Collections.unmodifiableMap(a)));
         }
-        this.auditModeSupplier = () -> mode;
     }
 
-    void set(Binding.AccessMode mode, boolean requiresAuthentication, Expression<String> rightExpression) {
+    private final Registry registry;
+    private final Map<Binding.AccessMode, Pair<Boolean, Expression<String>>> audits;
+    private final boolean userDependent;
+
+    private boolean audited;
+    private User auditedUser;
+    private Binding.AuditMode auditedMode;
+    private Binding.AccessMode auditedAccessMode;
+
+    private Auditor(Registry registry, Map<Binding.AccessMode, Pair<Boolean, Expression<String>>> audits) {
+        this.registry = registry;
+        this.audits = audits;
+        this.userDependent = audits.values().stream().anyMatch(Pair::getLeft);
+    }
+
+    static Expression<String> ofRightId(String rightId) {
+        return RIGHT_EXPRESSIONS.computeIfAbsent(rightId, Expression::of);
+    }
+
+    Auditor with(Binding.AccessMode mode, boolean requiresAuthentication, Expression<String> rightExpression) {
         if (mode == null) {
             throw new IllegalArgumentException("Cannot append a null access mode");
         }
-        this.audits.put(mode, Pair.of(requiresAuthentication, rightExpression));
+        Map<Binding.AccessMode, Pair<Boolean, Expression<String>>> audits = new EnumMap<>(Binding.AccessMode.class);
+        audits.putAll(this.audits);
+        audits.put(mode, Pair.of(requiresAuthentication, rightExpression));
+        return this.registry.intern(audits);
     }
 
-    Binding.AccessMode audit() {
-        Binding.AuditMode auditMode = this.auditModeSupplier.get();
-        return this.audits.entrySet().stream().
-                flatMap(entry -> !entry.getValue().getLeft() || (WebEnv.isLoggedIn() &&
-                        (entry.getValue().getRight() == null || WebEnv.userHasRights(entry.getValue().getRight()))) ?
-                        Stream.of(entry.getKey()) : Stream.empty()).
-                reduce(auditMode::reduce).
-                orElse(auditMode.getDefaultAccessMode());
+    boolean isUserDependent() {
+        return this.userDependent;
+    }
+
+    synchronized Binding.AccessMode audit() {
+        Binding.AuditMode auditMode = this.registry.auditMode;
+        // THE RIGHTS OF A USER INSTANCE ARE ASSUMED NOT TO CHANGE WHILE IT IS LOGGED IN, SEE User#hasRights(Set)
+        User user = this.userDependent ? WebEnv.getLoggedInUser() : null;
+        if (!this.audited || this.auditedMode != auditMode || this.auditedUser != user) {
+            this.auditedAccessMode = this.audits.entrySet().stream().
+                    flatMap(entry -> !entry.getValue().getLeft() || (user != null &&
+                            (entry.getValue().getRight() == null || WebEnv.userHasRights(entry.getValue().getRight()))) ?
+                            Stream.of(entry.getKey()) : Stream.empty()).
+                    reduce(auditMode::reduce).
+                    orElse(auditMode.getDefaultAccessMode());
+            this.auditedMode = auditMode;
+            this.auditedUser = user;
+            this.audited = true;
+        }
+        return this.auditedAccessMode;
     }
 }
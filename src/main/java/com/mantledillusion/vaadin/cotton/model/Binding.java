@@ -70,12 +70,13 @@ public abstract class Binding<FieldValueType> implements AuditingConfigurer<Bind
         }
     }
 
-    private final Auditor bindingAuditor;
+    private Auditor bindingAuditor;
+    private ModelBinder<?> binder;
     private AccessMode accessMode;
     private FieldValueType maskedValue;
 
     Binding(Auditor baseAuditor) {
-        this.bindingAuditor = new Auditor(baseAuditor);
+        this.bindingAuditor = baseAuditor;
     }
 
     protected final AccessMode getAccessMode() {
@@ -87,10 +88,29 @@ public abstract class Binding<FieldValueType> implements AuditingConfigurer<Bind
         accessModeChanged(this.accessMode.coupled);
     }
 
+    final void reauditAccessMode() {
+        AccessMode accessMode = this.bindingAuditor.audit();
+        if (accessMode != this.accessMode) {
+            this.accessMode = accessMode;
+            accessModeChanged(this.accessMode.coupled);
+        }
+    }
+
+    final boolean isUserDependent() {
+        return this.bindingAuditor.isUserDependent();
+    }
+
+    final void setBinder(ModelBinder<?> binder) {
+        this.binder = binder;
+    }
+
     @Override
     public Binding<FieldValueType> setAudit(AccessMode mode, boolean requiresLogin, Expression<String> rightExpression) {
-        this.bindingAuditor.set(mode, requiresLogin, rightExpression);
+        this.bindingAuditor = this.bindingAuditor.with(mode, requiresLogin, rightExpression);
         refreshAccessMode();
+        if (this.binder != null) {
+            this.binder.reindex(this);
+        }
         return this;
     }
 
@@ -23,8 +23,9 @@ public final class ModelAccessor<ModelType> extends ModelBinder<ModelType> {
 	private final ModelContainer<ModelType> parent;
 
 	private ModelAccessor(@Inject @Qualifier(ModelContainer.SID_CONTAINER) ModelContainer<ModelType> parent,
-			@Inject @Qualifier(ModelContainer.SID_PROPERTYCONTEXT) @Optional Context context) {
-		super(ObjectUtils.defaultIfNull(context, Context.EMPTY));
+			@Inject @Qualifier(ModelContainer.SID_PROPERTYCONTEXT) @Optional Context context,
+			@Inject @Qualifier(ModelContainer.SID_VIEWTYPE) @Optional Class<?> viewType) {
+		super(ObjectUtils.defaultIfNull(context, Context.EMPTY), viewType);
 		this.parent = parent;
 		this.parent.register(this);
 	}
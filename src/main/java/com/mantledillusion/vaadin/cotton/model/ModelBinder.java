@@ -2,6 +2,8 @@ package com.mantledillusion.vaadin.cotton.model;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -11,8 +13,16 @@ import com.mantledillusion.data.epiphy.context.Context;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
 import com.mantledillusion.essentials.expression.Expression;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PreDestroy;
+import com.mantledillusion.metrics.trail.MetricsTrailSupport;
+import com.mantledillusion.metrics.trail.api.Measurement;
+import com.mantledillusion.metrics.trail.api.MeasurementType;
+import com.mantledillusion.vaadin.cotton.CottonUI;
+import com.mantledillusion.vaadin.cotton.event.user.AfterLoginEvent;
+import com.mantledillusion.vaadin.cotton.metrics.CottonMetrics;
+import com.mantledillusion.vaadin.cotton.metrics.LatencyHistogram;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.HasEnabled;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.data.binder.HasDataProvider;
 import com.vaadin.flow.data.provider.InMemoryDataProvider;
 import com.vaadin.flow.data.provider.ListDataProvider;
@@ -30,10 +40,19 @@ import com.vaadin.flow.component.HasValue.ValueChangeEvent;
 import com.vaadin.flow.component.HasValue.ValueChangeListener;
 import com.vaadin.flow.shared.Registration;
 
+/**
+ * Base for {@link ModelHandler}s that bind properties of the model to UI components.
+ * <p>
+ * The access modes of bindings whose audit depends on the logged in {@link com.mantledillusion.vaadin.cotton.User}
+ * are re-audited incrementally after a login, only touching the bindings whose access mode actually flips. A logout
+ * always reloads the page, which re-injects the view and all of its binders, so it is not handled incrementally.
+ */
 abstract class ModelBinder<ModelType> implements ModelHandler<ModelType>, AuditingConfigurer<ModelBinder<ModelType>> {
 
 	private static final Procedure NOOP = () -> {};
 
+	private static final Map<Class<?>, LatencyHistogram> AUDIT_LATENCIES = new ConcurrentHashMap<>();
+
 	private interface Procedure {
 
 		void trigger();
@@ -58,11 +77,17 @@ abstract class ModelBinder<ModelType> implements ModelHandler<ModelType>, Auditi
 	}
 
 	private final Context context;
-	private final Auditor baseBindingAuditor = new Auditor(null);
+	private final Class<?> auditedType;
+	private final Auditor.Registry auditorRegistry = new Auditor.Registry();
+	private Auditor baseBindingAuditor = this.auditorRegistry.getRoot();
 	private final Map<Property<ModelType, ?>, List<Binding<?>>> bindings = new IdentityHashMap<>();
+	private final Set<Binding<?>> userDependentBindings = Collections.newSetFromMap(new IdentityHashMap<>());
+	private Registration loginRegistration;
 
-	protected ModelBinder(Context context) {
+	protected ModelBinder(Context context, Class<?> viewType) {
 		this.context = context;
+		// AUDITS ARE MEASURED PER VIEW; BINDERS INJECTED OUTSIDE OF A VIEW SHARE THE MEASUREMENTS OF THEIR OWN TYPE
+		this.auditedType = viewType == null ? getClass() : viewType;
 	}
 
 	protected Context getContext() {
@@ -85,20 +110,76 @@ abstract class ModelBinder<ModelType> implements ModelHandler<ModelType>, Auditi
 	 * @return this.
 	 */
 	public final ModelBinder<ModelType> setAuditMode(Binding.AuditMode mode) {
-		this.baseBindingAuditor.setAuditMode(mode);
-		refreshBindingAuditing();
+		this.auditorRegistry.setAuditMode(mode);
+		refreshBindingAuditing("AUDIT_MODE");
 		return this;
 	}
 
 	@Override
 	public final ModelBinder<ModelType> setAudit(Binding.AccessMode mode, boolean requiresLogin, Expression<String> rightExpression) {
-		this.baseBindingAuditor.set(mode, requiresLogin, rightExpression);
-		refreshBindingAuditing();
+		this.baseBindingAuditor = this.baseBindingAuditor.with(mode, requiresLogin, rightExpression);
+		refreshBindingAuditing("AUDIT");
 		return this;
 	}
 
-	private void refreshBindingAuditing() {
-		this.bindings.values().stream().flatMap(List::stream).forEach(Binding::refreshAccessMode);
+	private void refreshBindingAuditing(String reason) {
+		long auditBegin = System.nanoTime();
+		List<Binding<?>> bindings = this.bindings.values().stream().flatMap(List::stream).collect(Collectors.toList());
+		bindings.forEach(Binding::refreshAccessMode);
+		commitAudit(reason, bindings.size(), System.nanoTime() - auditBegin);
+	}
+
+	private synchronized void reauditUserDependentBindings(AfterLoginEvent event) {
+		// ONLY BINDINGS AUDITED BY THE USER CAN FLIP; THOSE WHOSE ACCESS MODE STAYS THE SAME ARE NOT TOUCHED
+		long auditBegin = System.nanoTime();
+		List<Binding<?>> bindings = new ArrayList<>(this.userDependentBindings);
+		bindings.forEach(Binding::reauditAccessMode);
+		commitAudit("LOGIN", bindings.size(), System.nanoTime() - auditBegin);
+	}
+
+	private void commitAudit(String reason, int bindingCount, long nanos) {
+		if (bindingCount > 0) {
+			LatencyHistogram histogram = AUDIT_LATENCIES.computeIfAbsent(this.auditedType, type -> new LatencyHistogram());
+			histogram.record(nanos);
+
+			if (MetricsTrailSupport.has()) {
+				MetricsTrailSupport.commit(CottonMetrics.SECURITY_BINDING_AUDIT.build(
+						new Measurement("simpleName", this.auditedType.getSimpleName(), MeasurementType.STRING),
+						new Measurement("name", this.auditedType.getName(), MeasurementType.STRING),
+						new Measurement("reason", reason, MeasurementType.STRING),
+						new Measurement("bindingCount", String.valueOf(bindingCount), MeasurementType.INTEGER),
+						toMicros("duration", nanos),
+						toMicros("durationP50", histogram.getPercentile(50)),
+						toMicros("durationP99", histogram.getPercentile(99)),
+						toMicros("durationMax", histogram.getMax())));
+			}
+		}
+	}
+
+	private static Measurement toMicros(String name, long nanos) {
+		return new Measurement(name, String.valueOf(TimeUnit.NANOSECONDS.toMicros(nanos)), MeasurementType.LONG);
+	}
+
+	synchronized void reindex(Binding<?> binding) {
+		if (binding.isUserDependent()) {
+			this.userDependentBindings.add(binding);
+			registerLoginListener();
+		} else {
+			this.userDependentBindings.remove(binding);
+		}
+	}
+
+	private void registerLoginListener() {
+		// BINDINGS MIGHT BE CREATED OUTSIDE OF A UI, SO THE LISTENER IS REGISTERED ONCE THE BINDER IS USED INSIDE ONE
+		if (this.loginRegistration == null && !this.userDependentBindings.isEmpty()) {
+			UI ui = UI.getCurrent();
+			if (ui instanceof CottonUI) {
+				this.loginRegistration = ((CottonUI) ui).addAfterLoginListener(this::reauditUserDependentBindings);
+
+				// A USER MIGHT HAVE LOGGED IN WHILE THE LISTENER WAS NOT REGISTERED YET
+				this.userDependentBindings.forEach(Binding::reauditAccessMode);
+			}
+		}
 	}
 
 	// ######################################################################################################################################
@@ -502,14 +583,18 @@ abstract class ModelBinder<ModelType> implements ModelHandler<ModelType>, Auditi
 			this.bindings.put(property, new ArrayList<>());
 		}
 		this.bindings.get(property).add(binding);
+		binding.setBinder(this);
+		reindex(binding);
 		return binding;
 	}
 
 	synchronized void updateAll(UpdateType type) {
+		registerLoginListener();
 		this.bindings.forEach((property, bindings) -> bindings.forEach(binding -> binding.valueChanged(context, type, UpdateDirection.PARENT)));
 	}
 
 	synchronized void update(Property<ModelType, ?> property, Context context, UpdateType type) {
+		registerLoginListener();
 		// RUN OVER ALL BINDINGS
 		boundPropertyLoop: for (Property<ModelType, ?> boundProperty : this.bindings.keySet()) {
 			// IF THE UPDATE'S PROPERTY IS A PARENT OF THE BINDING'S PROPERTY...
@@ -538,6 +623,12 @@ abstract class ModelBinder<ModelType> implements ModelHandler<ModelType>, Auditi
 		VaadinSession session = VaadinSession.getCurrent();
 		boolean sessionActive = session != null && session.getState() == VaadinSessionState.OPEN;
 
+		if (this.loginRegistration != null) {
+			this.loginRegistration.remove();
+			this.loginRegistration = null;
+		}
+		this.userDependentBindings.clear();
+
 		Iterator<Entry<Property<ModelType, ?>, List<Binding<?>>>> entryIterator = this.bindings.entrySet().iterator();
 		while (entryIterator.hasNext()) {
 			Iterator<Binding<?>> bindingIterator = entryIterator.next().getValue().iterator();
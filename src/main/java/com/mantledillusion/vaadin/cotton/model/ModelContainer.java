@@ -22,6 +22,7 @@ public final class ModelContainer<ModelType> implements ModelHandler<ModelType>
 
 	public static final String SID_CONTAINER = "_modelContainer";
 	public static final String SID_PROPERTYCONTEXT = "_propertyContext";
+	public static final String SID_VIEWTYPE = "_viewType";
 
 	private final List<ModelAccessor<ModelType>> children = new ArrayList<>();
 	private ModelType model;
@@ -64,6 +64,10 @@ public abstract class AbstractView extends Composite<Component> implements Prese
      * Active components that are instantiated during the build can be registered to the given
      * {@link Presentable.TemporalActiveComponentRegistry}; they are then available to listen to by the view's
      * {@link AbstractPresenter}'s @{@link Listen} annotated @link Method}s.
+     * <P>
+     * Sections of the UI that are not shown right away (like tabs, dialogs or collapsed panels) can be registered
+     * using {@link Presentable.TemporalActiveComponentRegistry#registerLazySection(Presentable.TemporalActiveComponentRegistry.SectionBuilder)},
+     * so they are only built when they are attached for the first time.
      *
      * @param reg The {@link Presentable.TemporalActiveComponentRegistry} the view may register its active components
      *            to; may <b>not</b> be null.
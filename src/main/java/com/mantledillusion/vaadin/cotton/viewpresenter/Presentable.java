@@ -1,8 +1,14 @@
 package com.mantledillusion.vaadin.cotton.viewpresenter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import com.mantledillusion.injection.hura.core.Blueprint;
 import com.mantledillusion.injection.hura.core.Injector;
@@ -19,6 +25,9 @@ import com.mantledillusion.vaadin.cotton.exception.http900.Http904IllegalAnnotat
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.HasComponents;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.shared.Registration;
 import org.apache.commons.lang3.reflect.MethodUtils;
 
 /**
@@ -46,9 +55,115 @@ public interface Presentable {
 
 	final class PresentableProcessor implements BeanProcessor<Presentable> {
 
+		private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+		private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class, ComponentEvent.class);
+
+		private static final class ListenMethod {
+
+			private final String methodName;
+			private final MethodHandle handle;
+			private final Pattern idPattern;
+			private final String exactId;
+			private final List<Class<? extends ComponentEvent<?>>> eventTypes;
+
+			@SuppressWarnings("unchecked")
+			private ListenMethod(Class<?> presenterType, Method method) {
+				if (!method.isAccessible()) {
+					try {
+						method.setAccessible(true);
+					} catch (SecurityException e) {
+						throw new Http904IllegalAnnotationUseException(
+								"Unable to gain access to the method '" + method.getName() + "' of the type "
+										+ presenterType.getSimpleName() + ".", e);
+					}
+				}
+
+				// THE PLAN MIGHT BE PREPARED BEFORE THE PRESENTER IS EVER INJECTED AND ITS @Listen METHODS VALIDATED
+				Listen annotation = method.getAnnotation(Listen.class);
+				Presenter.ListenValidator.validate(annotation, method);
+
+				this.methodName = method.getName();
+				try {
+					MethodHandle handle = MethodHandles.lookup().unreflect(method);
+					if (method.getParameterCount() == 0) {
+						// METHODS WITHOUT A PARAMETER ARE NOT HANDED THE EVENT
+						handle = MethodHandles.dropArguments(handle, 1, ComponentEvent.class);
+					}
+					this.handle = handle.asType(HANDLER_TYPE);
+				} catch (IllegalAccessException e) {
+					throw new Http904IllegalAnnotationUseException(
+							"Unable to gain access to the method '" + method.getName() + "' of the type "
+									+ presenterType.getSimpleName() + ".", e);
+				} catch (WrongMethodTypeException e) {
+					throw new Http904IllegalAnnotationUseException(
+							"The method '" + method.getName() + "' of the type " + presenterType.getSimpleName()
+									+ " is annotated with @" + Listen.class.getSimpleName()
+									+ " but its signature cannot receive events.", e);
+				}
+
+				try {
+					this.idPattern = Pattern.compile(annotation.value());
+					this.exactId = isLiteral(annotation.value()) ? annotation.value() : null;
+				} catch (PatternSyntaxException e) {
+					throw new Http904IllegalAnnotationUseException(
+							"The component id matcher '" + annotation.value() + "' of the method '" + method.getName()
+									+ "' of the type " + presenterType.getSimpleName() + " is no valid regular expression.", e);
+				}
+
+				List<Class<? extends ComponentEvent<?>>> eventTypes = Arrays.asList(annotation.extensions());
+				if (eventTypes.size() == 0) {
+					eventTypes = Collections.singletonList((Class<? extends ComponentEvent<?>>) method.getParameterTypes()[0]);
+				}
+				this.eventTypes = eventTypes;
+			}
+
+			private static boolean isLiteral(String regex) {
+				for (int i = 0; i < regex.length(); i++) {
+					if (REGEX_META_CHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+						return false;
+					}
+				}
+				return true;
+			}
+		}
+
+		private static final ClassValue<List<ListenMethod>> LISTEN_METHODS = new ClassValue<List<ListenMethod>>() {
+
+			@Override
+			protected List<ListenMethod> computeValue(Class<?> presenterType) {
+				List<ListenMethod> listenMethods = new ArrayList<>();
+				for (Method method : MethodUtils.getMethodsListWithAnnotation(presenterType, Listen.class, true, true)) {
+					// COMPONENT EVENT METHODS
+					if (method.isAnnotationPresent(Listen.class)) {
+						listenMethods.add(new ListenMethod(presenterType, method));
+					}
+				}
+				return Collections.unmodifiableList(listenMethods);
+			}
+		};
+
 		@Construct
 		private PresentableProcessor() {}
 
+		/**
+		 * Prepares the presentation of the given view type, so the @{@link Listen} methods of its presenter do not
+		 * have to be discovered when the type is injected first.
+		 * <p>
+		 * Used by Cotton to prepare all routed views on startup; there is no need for applications to call it.
+		 *
+		 * @param viewType The type to prepare; might <b>not</b> be null.
+		 */
+		public static void prepare(Class<?> viewType) {
+			if (viewType == null) {
+				throw new Http901IllegalArgumentException("Cannot prepare the presentation of a null view type");
+			}
+			PresentablePlan.of(viewType);
+		}
+
+		static void prepareListenMethods(Class<?> presenterType) {
+			LISTEN_METHODS.get(presenterType);
+		}
+
 		@Override
 		public void process(Phase phase, Presentable bean, Injector.TemporalInjectorCallback callback) throws Exception {
 			TemporalActiveComponentRegistry reg = new TemporalActiveComponentRegistry();
@@ -60,42 +175,24 @@ public interface Presentable {
 			}
 			reg.canRegister = false;
 
-			if (bean.getClass().isAnnotationPresent(Presented.class)) {
-				instantiatePresenter(bean, bean.getClass().getAnnotation(Presented.class), reg, callback);
+			PresentablePlan plan = PresentablePlan.of(bean.getClass());
+			if (plan.presenterType != null) {
+				instantiatePresenter(bean, plan, reg, callback);
 			}
 		}
 
-		private <V extends Presentable, T> void instantiatePresenter(V view, Presented annotationInstance,
+		private <V extends Presentable, T> void instantiatePresenter(V view, PresentablePlan plan,
 																	 TemporalActiveComponentRegistry reg,
 																	 Injector.TemporalInjectorCallback callback) {
 			@SuppressWarnings("unchecked")
-			Class<T> presenterType = (Class<T>) annotationInstance.value();
+			Class<T> presenterType = (Class<T>) plan.presenterType;
 
 			BeanProcessor<T> postProcessor = (phase, presenter, injectorCallback) -> {
-				for (Method method : MethodUtils.getMethodsListWithAnnotation(presenter.getClass(), Listen.class,
-						true, true)) {
-					// COMPONENT EVENT METHODS
-					if (method.isAnnotationPresent(Listen.class)) {
-						if (!method.isAccessible()) {
-							try {
-								method.setAccessible(true);
-							} catch (SecurityException e) {
-								throw new Http904IllegalAnnotationUseException(
-										"Unable to gain access to the method '" + method.getName() + "' of the type "
-												+ presenter.getClass().getSimpleName() + ".", e);
-							}
-						}
-
-						Listen annotation = method.getAnnotation(Listen.class);
-
-						List<Class<? extends ComponentEvent<?>>> eventTypes = Arrays.asList(annotation.extensions());
-						if (eventTypes.size() == 0) {
-							eventTypes = Arrays.asList((Class<? extends ComponentEvent<?>>) method.getParameterTypes()[0]);
-						}
-
-						for (Class<? extends ComponentEvent<?>> eventType: eventTypes) {
-							reg.addListener(annotation.value(), eventType, presenter, method);
-						}
+				for (ListenMethod listenMethod: LISTEN_METHODS.get(presenter.getClass())) {
+					// BIND THE METHOD TO THE INSTANCE, SO EVENTS ARE DISPATCHED WITHOUT REFLECTION
+					MethodHandle handler = listenMethod.handle.bindTo(presenter);
+					for (Class<? extends ComponentEvent<?>> eventType: listenMethod.eventTypes) {
+						reg.addListener(listenMethod.exactId, listenMethod.idPattern, eventType, listenMethod.methodName, handler);
 					}
 				}
 			};
@@ -103,7 +200,7 @@ public interface Presentable {
 			Object presenter = callback.instantiate(presenterType, Blueprint.TypeAllocation.allocateToType(presenterType, presenterType,
 					PhasedBeanProcessor.of(postProcessor, Phase.POST_CONSTRUCT)));
 
-			if (presenter instanceof AbstractPresenter) {
+			if (plan.isAbstractPresenter) {
 				((AbstractPresenter<V>) presenter).setView(view);
 			}
 		}
@@ -113,14 +210,62 @@ public interface Presentable {
 	 * Temporarily active registry for {@link Component}s on an {@link Presentable} that are active, which means they fire
 	 * events that the {@link Presentable}s presenter has to react on.
 	 * <P>
-	 * May only be used during the initialization of the {@link Presentable} it is given to.
+	 * May only be used during the initialization of the {@link Presentable} it is given to; for lazy sections
+	 * registered using {@link #registerLazySection(SectionBuilder)}, during the initialization of the section.
 	 */
 	final class TemporalActiveComponentRegistry {
 
+		/**
+		 * Builder for a section of a {@link Presentable}'s UI that is only built when it is attached for the first time.
+		 */
+		public interface SectionBuilder {
+
+			/**
+			 * Builds the section's UI and returns it.
+			 * <p>
+			 * Active components that are instantiated during the build can be registered to the given
+			 * {@link TemporalActiveComponentRegistry}; they are then listened to by the same @{@link Listen} annotated
+			 * methods of the presenter that listen to the {@link Presentable}'s other active components.
+			 *
+			 * @param reg The {@link TemporalActiveComponentRegistry} the section may register its active components to;
+			 *            may <b>not</b> be null.
+			 * @return The component containing the section's UI; never null
+			 * @throws Exception For convenience, this method may throw any {@link Exception} it desires that can occur
+			 * during its build.
+			 */
+			Component build(TemporalActiveComponentRegistry reg) throws Exception;
+		}
+
+		private static final class BoundListener {
+
+			private final String exactComponentId;
+			private final Pattern componentIdMatcher;
+			private final Class<? extends ComponentEvent<?>> eventType;
+			private final String methodName;
+			private final MethodHandle handler;
+
+			private BoundListener(String exactComponentId, Pattern componentIdMatcher,
+								  Class<? extends ComponentEvent<?>> eventType, String methodName, MethodHandle handler) {
+				this.exactComponentId = exactComponentId;
+				this.componentIdMatcher = componentIdMatcher;
+				this.eventType = eventType;
+				this.methodName = methodName;
+				this.handler = handler;
+			}
+		}
+
 		private final Map<Component, String> activeComponents = new IdentityHashMap<>();
+		private final Map<String, List<Component>> activeComponentsById = new LinkedHashMap<>();
+		private final List<BoundListener> listeners;
 		private boolean canRegister = true;
 
-		private TemporalActiveComponentRegistry() {}
+		private TemporalActiveComponentRegistry() {
+			this.listeners = new ArrayList<>();
+		}
+
+		private TemporalActiveComponentRegistry(List<BoundListener> listeners) {
+			this.listeners = listeners;
+		}
 
 		/**
 		 * Registers the given {@link Component}, which will make the component's events @{@link Listen}able to for presenter methods.
@@ -142,11 +287,8 @@ public interface Presentable {
 		 * @return The given component, for inline building
 		 */
 		public <T extends Component> T register(T component, String id) {
-			if (!canRegister) {
-				throw new Http902IllegalStateException(
-						"The component registry may only be used during the initialization of the view it is given to, "
-								+ "as components registered later would not be linked to the view's contolling subscriber anymore.");
-			} else if (component == null) {
+			checkCanRegister();
+			if (component == null) {
 				throw new Http901IllegalArgumentException("Cannot register a null component.");
 			} else if (id != null) {
 				component.setId(id);
@@ -155,24 +297,128 @@ public interface Presentable {
 			if (!component.getId().isPresent()) {
 				throw new Http901IllegalArgumentException("Cannot register a component without an id.");
 			} else {
-				this.activeComponents.put(component, component.getId().get());
+				String componentId = component.getId().get();
+				String formerId = this.activeComponents.put(component, componentId);
+				if (formerId != null) {
+					this.activeComponentsById.get(formerId).remove(component);
+				}
+				this.activeComponentsById.computeIfAbsent(componentId, cid -> new ArrayList<>()).add(component);
 			}
 			return component;
 		}
 
-		private <T extends ComponentEvent<?>> void addListener(String componentIdMatcher, Class<T> eventType, Object presenter, Method m) {
-			this.activeComponents.entrySet().parallelStream()
-					.filter(entry -> entry.getValue().matches(componentIdMatcher))
-					.forEach(entry -> routeEvent(entry.getKey(), eventType, m, presenter));
+		/**
+		 * Registers a section of the UI that is not built until it is attached for the first time.
+		 * <p>
+		 * The returned placeholder has to be added to the UI instead of the section. When it is attached for the first
+		 * time, the given builder is called and its result is added to the placeholder; the active components the
+		 * builder registers are then linked to the presenter's @{@link Listen} annotated methods just like the ones
+		 * registered during the {@link Presentable}'s initialization.
+		 * <p>
+		 * The placeholder is a {@link Div} that remains in the UI as the parent of the section, so the section is
+		 * wrapped by an additional element; use {@link #registerLazySection(Component, SectionBuilder)} to supply a
+		 * container that fits the surrounding layout.
+		 * <p>
+		 * Sections that are never shown, like the content of unselected tabs or unopened dialogs, are never built.
+		 *
+		 * @param builder The builder of the section; might <b>not</b> be null.
+		 * @return The placeholder to add to the UI in place of the section, never null
+		 */
+		public Component registerLazySection(SectionBuilder builder) {
+			return registerLazySection(new Div(), builder);
+		}
+
+		/**
+		 * Registers a section of the UI that is not built until it is attached for the first time.
+		 * <p>
+		 * The given container has to be added to the UI instead of the section. When it is attached for the first
+		 * time, the given builder is called and its result is added to the container; the active components the
+		 * builder registers are then linked to the presenter's @{@link Listen} annotated methods just like the ones
+		 * registered during the {@link Presentable}'s initialization.
+		 * <p>
+		 * If the builder fails, the failure is reported to the session's error handling and the section is built again
+		 * when the container is attached the next time.
+		 * <p>
+		 * Sections that are never shown, like the content of unselected tabs or unopened dialogs, are never built.
+		 *
+		 * @param <C> The type of the container.
+		 * @param container The container to add the section to once it is built; might <b>not</b> be null.
+		 * @param builder The builder of the section; might <b>not</b> be null.
+		 * @return The given container, never null
+		 */
+		public <C extends Component & HasComponents> C registerLazySection(C container, SectionBuilder builder) {
+			checkCanRegister();
+			if (container == null) {
+				throw new Http901IllegalArgumentException("Cannot register a lazy section to a null container.");
+			} else if (builder == null) {
+				throw new Http901IllegalArgumentException("Cannot register a lazy section using a null builder.");
+			}
+
+			// ONLY RETAIN THE LISTENERS UNTIL THE SECTION IS BUILT, NOT THE WHOLE REGISTRY
+			List<BoundListener> listeners = this.listeners;
+			Registration[] attachRegistration = new Registration[1];
+			attachRegistration[0] = container.addAttachListener(event -> {
+				TemporalActiveComponentRegistry sectionReg = new TemporalActiveComponentRegistry(listeners);
+				Component section;
+				try {
+					section = builder.build(sectionReg);
+				} catch (Exception e) {
+					throw new Http500InternalServerErrorException("Unable to build a lazy section", e);
+				}
+				sectionReg.canRegister = false;
+				if (section == null) {
+					throw new Http901IllegalArgumentException("The returned ui component representing a lazy section "
+							+ "was null, which is not allowed.");
+				}
+
+				// THE PRESENTER HAS BEEN BOUND ALREADY, SO ITS LISTENERS ARE APPLIED TO THE SECTION'S COMPONENTS NOW
+				listeners.forEach(sectionReg::applyListener);
+				container.add(section);
+
+				// ONLY A SUCCESSFULLY BUILT SECTION IS NOT BUILT AGAIN ON THE NEXT ATTACH
+				attachRegistration[0].remove();
+			});
+			return container;
+		}
+
+		private void checkCanRegister() {
+			if (!canRegister) {
+				throw new Http902IllegalStateException(
+						"The component registry may only be used during the initialization of the view it is given to, "
+								+ "as components registered later would not be linked to the view's contolling subscriber anymore.");
+			}
+		}
+
+		private void addListener(String exactComponentId, Pattern componentIdMatcher,
+								 Class<? extends ComponentEvent<?>> eventType, String methodName, MethodHandle handler) {
+			BoundListener listener = new BoundListener(exactComponentId, componentIdMatcher, eventType, methodName, handler);
+			this.listeners.add(listener);
+			applyListener(listener);
+		}
+
+		private void applyListener(BoundListener listener) {
+			// REGISTER IN ORDER OF REGISTRATION ON THE CALLING THREAD; EXACT IDS DO NOT NEED TO BE MATCHED AT ALL
+			if (listener.exactComponentId != null) {
+				this.activeComponentsById.getOrDefault(listener.exactComponentId, Collections.emptyList())
+						.forEach(component -> routeEvent(component, listener.eventType, listener.methodName, listener.handler));
+			} else {
+				this.activeComponentsById.forEach((componentId, components) -> {
+					if (listener.componentIdMatcher.matcher(componentId).matches()) {
+						components.forEach(component -> routeEvent(component, listener.eventType, listener.methodName, listener.handler));
+					}
+				});
+			}
 		}
 
-		private <T extends ComponentEvent<?>> void routeEvent(Component c, Class<T> eventType, Method m, Object presenter) {
+		private <T extends ComponentEvent<?>> void routeEvent(Component c, Class<T> eventType, String methodName,
+															  MethodHandle handler) {
 			ComponentUtil.addListener(c, eventType, event -> {
 				try {
-					m.invoke(presenter, event);
-				} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+					handler.invokeExact((ComponentEvent<?>) event);
+				} catch (Throwable t) {
 					throw new Http500InternalServerErrorException(
-							"The method '" + m.getName() + "' failed to handle the event '" + event + "'", e);
+							"The method '" + methodName + "' failed to handle the event '" + event + "'",
+							new InvocationTargetException(t));
 				}
 			});
 		}
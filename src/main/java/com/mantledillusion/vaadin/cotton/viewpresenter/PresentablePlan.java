@@ -0,0 +1,36 @@
+package com.mantledillusion.vaadin.cotton.viewpresenter;
+
+/**
+ * Precomputed plan of how instances of a {@link Presentable} implementation are presented.
+ * <p>
+ * Plans are computed once per type, either on first injection or when Cotton prepares all routed views on startup.
+ * The plan itself only memoizes the view's presenter type; the costly part of preparing it is the reflective
+ * discovery of the presenter's @{@link Listen} methods and the creation of their handles, which are prepared along
+ * with the plan. The injection of views and presenters itself is performed by Hura and not covered by plans.
+ */
+final class PresentablePlan {
+
+	private static final ClassValue<PresentablePlan> PLANS = new ClassValue<PresentablePlan>() {
+
+		@Override
+		protected PresentablePlan computeValue(Class<?> type) {
+			return new PresentablePlan(type);
+		}
+	};
+
+	final Class<? extends Presenter<?>> presenterType;
+	final boolean isAbstractPresenter;
+
+	private PresentablePlan(Class<?> viewType) {
+		Presented presented = viewType.getAnnotation(Presented.class);
+		this.presenterType = presented == null ? null : presented.value();
+		this.isAbstractPresenter = this.presenterType != null && AbstractPresenter.class.isAssignableFrom(this.presenterType);
+		if (this.presenterType != null) {
+			Presentable.PresentableProcessor.prepareListenMethods(this.presenterType);
+		}
+	}
+
+	static PresentablePlan of(Class<?> viewType) {
+		return PLANS.get(viewType);
+	}
+}
@@ -41,6 +41,10 @@ public interface Presenter<V extends Presentable> {
         @Override
         public void process(Phase phase, Object bean, Listen annotationInstance, Method method,
                             Injector.TemporalInjectorCallback callback) {
+            validate(annotationInstance, method);
+        }
+
+        static void validate(Listen annotationInstance, Method method) {
             Parameter[] parameters = method.getParameters();
             if (Modifier.isStatic(method.getModifiers())) {
                 throw new Http904IllegalAnnotationUseException("The " + ValidatorUtils.getDescription(method)
@@ -74,7 +78,7 @@ public interface Presenter<V extends Presentable> {
             }
         }
         
-        private boolean isValidPattern(String regex) {
+        private static boolean isValidPattern(String regex) {
             try {
                 Pattern.compile(regex);
             } catch (PatternSyntaxException e) {
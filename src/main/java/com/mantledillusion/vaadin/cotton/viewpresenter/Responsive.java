@@ -304,4 +304,19 @@ public @interface Responsive {
      * @return The @{@link Component}s for the annotated, {@link Route}d {@link Component}, never null, might be empty
      */
     Class<? extends Component>[] value();
+
+    /**
+     * Determines whether the @{@link Component}s switched between share a single
+     * {@link com.mantledillusion.vaadin.cotton.model.ModelContainer}.
+     * <p>
+     * If shared, the {@link com.mantledillusion.vaadin.cotton.model.ModelContainer} injected by the qualifier
+     * {@link com.mantledillusion.vaadin.cotton.model.ModelContainer#SID_CONTAINER} survives switching between the
+     * @{@link Component}s, so an alternative that is switched to is bound to the already loaded model instead of
+     * having to load it again.
+     * <p>
+     * The default is false.
+     *
+     * @return True if the model is shared between the alternatives, false otherwise
+     */
+    boolean shareModel() default false;
 }
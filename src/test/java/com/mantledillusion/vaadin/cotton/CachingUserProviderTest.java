@@ -0,0 +1,254 @@
+package com.mantledillusion.vaadin.cotton;
+
+import com.mantledillusion.vaadin.cotton.exception.http900.Http902IllegalStateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingUserProviderTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    private CachingUserProvider provider;
+
+    @BeforeEach
+    public void setUp() {
+        this.provider = CachingUserProvider.of(request -> null, token -> {
+            this.resolutions.incrementAndGet();
+            return token.startsWith("invalid") ? null : newUser();
+        }).withTimeToLive(Duration.ofNanos(100)).withRefreshExecutor(this.refreshes::add).withClock(this.clock::get);
+    }
+
+    @Test
+    public void testCachesUserWithinTimeToLive() {
+        User user = this.provider.provide("a");
+        this.clock.set(99);
+        assertSame(user, this.provider.provide("a"));
+        assertEquals(1, this.resolutions.get());
+    }
+
+    @Test
+    public void testResolvesAgainAfterTimeToLive() {
+        User user = this.provider.provide("a");
+        this.clock.set(100);
+        assertNotSame(user, this.provider.provide("a"));
+        assertEquals(2, this.resolutions.get());
+    }
+
+    @Test
+    public void testDoesNotCacheInvalidTokens() {
+        assertNull(this.provider.provide("invalid"));
+        assertNull(this.provider.provide("invalid"));
+        assertEquals(2, this.resolutions.get());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedToken() {
+        this.provider.withMaxSize(2);
+        User a = this.provider.provide("a");
+        User b = this.provider.provide("b");
+        this.provider.provide("a");
+        this.provider.provide("c");
+        assertEquals(3, this.resolutions.get());
+
+        assertSame(a, this.provider.provide("a"));
+        assertEquals(3, this.resolutions.get());
+        assertNotSame(b, this.provider.provide("b"));
+        assertEquals(4, this.resolutions.get());
+    }
+
+    @Test
+    public void testInvalidatesToken() {
+        User user = this.provider.provide("a");
+        this.provider.invalidate("a");
+        assertNotSame(user, this.provider.provide("a"));
+        assertEquals(2, this.resolutions.get());
+    }
+
+    @Test
+    public void testRefreshesAheadOnceInBackground() {
+        this.provider.withRefreshAhead(Duration.ofNanos(50));
+        User user = this.provider.provide("a");
+
+        this.clock.set(49);
+        assertSame(user, this.provider.provide("a"));
+        assertTrue(this.refreshes.isEmpty());
+
+        this.clock.set(50);
+        assertSame(user, this.provider.provide("a"));
+        assertSame(user, this.provider.provide("a"));
+        assertEquals(1, this.refreshes.size());
+        assertEquals(1, this.resolutions.get());
+
+        this.refreshes.get(0).run();
+        assertEquals(2, this.resolutions.get());
+        User refreshed = this.provider.provide("a");
+        assertNotSame(user, refreshed);
+
+        // THE REFRESHED USER LIVES FROM THE TIME OF ITS RESOLUTION
+        this.clock.set(149);
+        assertSame(refreshed, this.provider.provide("a"));
+        assertEquals(2, this.resolutions.get());
+    }
+
+    @Test
+    public void testKeepsCachedUserIfRefreshFails() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingUserProvider provider = CachingUserProvider.of(request -> null, token -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("unavailable");
+            }
+            return newUser();
+        }).withRefreshAhead(Duration.ofNanos(50)).withRefreshExecutor(Runnable::run).withClock(this.clock::get);
+
+        User user = provider.provide("a");
+        this.clock.set(50);
+        assertSame(user, provider.provide("a"));
+        assertEquals(2, calls.get());
+
+        // THE FAILED REFRESH IS RETRIED ON THE NEXT PROVISION
+        assertSame(user, provider.provide("a"));
+        assertEquals(3, calls.get());
+        assertNotSame(user, provider.provide("a"));
+    }
+
+    @Test
+    public void testRefreshesAgainAfterRefreshFailedWithError() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingUserProvider provider = CachingUserProvider.of(request -> null, token -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new AssertionError("unavailable");
+            }
+            return newUser();
+        }).withRefreshAhead(Duration.ofNanos(50)).withRefreshExecutor(this.refreshes::add).withClock(this.clock::get);
+
+        User user = provider.provide("a");
+        this.clock.set(50);
+        assertSame(user, provider.provide("a"));
+        assertThrows(AssertionError.class, () -> this.refreshes.get(0).run());
+
+        assertSame(user, provider.provide("a"));
+        assertEquals(2, this.refreshes.size());
+        this.refreshes.get(1).run();
+        assertNotSame(user, provider.provide("a"));
+    }
+
+    @Test
+    public void testRefreshesAgainAfterRefreshWasRejected() {
+        AtomicInteger submissions = new AtomicInteger();
+        this.provider.withRefreshAhead(Duration.ofNanos(50)).withRefreshExecutor(refresh -> {
+            if (submissions.incrementAndGet() == 1) {
+                throw new RejectedExecutionException();
+            }
+            refresh.run();
+        });
+
+        User user = this.provider.provide("a");
+        this.clock.set(50);
+        assertSame(user, this.provider.provide("a"));
+        assertEquals(1, this.resolutions.get());
+
+        assertSame(user, this.provider.provide("a"));
+        assertEquals(2, submissions.get());
+        assertEquals(2, this.resolutions.get());
+        assertNotSame(user, this.provider.provide("a"));
+    }
+
+    @Test
+    public void testCachesInFrontOfUserProvider() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingUserProvider provider = CachingUserProvider.of(request -> null, new LoginProvider.UserProvider() {
+
+            @Override
+            public User provide() {
+                calls.incrementAndGet();
+                return newUser();
+            }
+
+            @Override
+            public boolean isSilent() {
+                return false;
+            }
+        }).withClock(this.clock::get);
+
+        User user = provider.provide("a");
+        assertSame(user, provider.provide("a"));
+        assertEquals(1, calls.get());
+        assertFalse(provider.isSilent());
+        assertThrows(Http902IllegalStateException.class, () -> provider.withRefreshAhead(Duration.ofNanos(50)));
+    }
+
+    @Test
+    public void testSharesConcurrentResolutionOfSameToken() throws Exception {
+        CountDownLatch resolving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CachingUserProvider provider = CachingUserProvider.of(request -> null, token -> {
+            calls.incrementAndGet();
+            resolving.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return newUser();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<User> first = executor.submit(() -> provider.provide("a"));
+            assertTrue(resolving.await(5, TimeUnit.SECONDS));
+            Future<User> second = executor.submit(() -> provider.provide("a"));
+            release.countDown();
+
+            User user = first.get(5, TimeUnit.SECONDS);
+            assertNotNull(user);
+            assertSame(user, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDoesNotCacheFailedResolution() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingUserProvider provider = CachingUserProvider.of(request -> null, token -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("unavailable");
+            }
+            return newUser();
+        });
+
+        assertThrows(IllegalStateException.class, () -> provider.provide("a"));
+        assertNotNull(provider.provide("a"));
+        assertEquals(2, calls.get());
+    }
+
+    private static User newUser() {
+        // A NON-CAPTURING LAMBDA WOULD ALWAYS BE THE SAME INSTANCE
+        return new User() {
+
+            @Override
+            public boolean hasRights(Set<String> rightIds) {
+                return true;
+            }
+        };
+    }
+}
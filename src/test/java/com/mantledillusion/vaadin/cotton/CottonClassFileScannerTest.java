@@ -0,0 +1,212 @@
+package com.mantledillusion.vaadin.cotton;
+
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteAlias;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CottonClassFileScannerTest {
+
+    private static final String BASE_PACKAGE = CottonClassFileScannerTest.class.getPackage().getName();
+    private static final String ROUTE_DESCRIPTOR = "Lcom/vaadin/flow/router/Route;";
+
+    private static final CottonClassFileScanner SCANNER = new CottonClassFileScanner(
+            Route.class, RouteAlias.class, RouteAlias.Container.class);
+
+    @Route("routed")
+    public static class RoutedView extends Div {}
+
+    @RouteAlias("aliased")
+    @RouteAlias("realiased")
+    public static class AliasedView extends Div {}
+
+    public static class InheritingView extends RoutedView {}
+
+    public static class TransitivelyInheritingView extends InheritingView {}
+
+    public static class PlainView extends Div {}
+
+    public static class PlainClass {}
+
+    // #################################################################################################################
+    // ################################################ COMPILED CLASSES ###############################################
+    // #################################################################################################################
+
+    @Test
+    public void testRoutedClassIsCandidate() throws IOException {
+        assertTrue(isCandidate(RoutedView.class));
+    }
+
+    @Test
+    public void testRepeatedAliasClassIsCandidate() throws IOException {
+        assertTrue(isCandidate(AliasedView.class));
+    }
+
+    @Test
+    public void testClassInheritingFromBasePackageIsCandidate() throws IOException {
+        assertTrue(isCandidate(InheritingView.class));
+    }
+
+    @Test
+    public void testClassInheritingTransitivelyIsCandidate() throws IOException {
+        assertTrue(isCandidate(TransitivelyInheritingView.class));
+    }
+
+    @Test
+    public void testClassInheritingFromPlatformIsNoCandidate() throws IOException {
+        assertFalse(isCandidate(PlainView.class));
+        assertFalse(isCandidate(PlainClass.class));
+    }
+
+    // #################################################################################################################
+    // ################################################# CONSTANT POOL #################################################
+    // #################################################################################################################
+
+    @Test
+    public void testNoClassFile() throws IOException {
+        assertFalse(SCANNER.isCandidate(new ByteArrayInputStream(new byte[] {0, 1, 2, 3})));
+    }
+
+    @Test
+    public void testSkipsAllTagWidths() throws IOException {
+        ClassFileBuilder builder = new ClassFileBuilder()
+                .entry(3, 4) // INTEGER
+                .entry(4, 4) // FLOAT
+                .entry(7, 2) // CLASS
+                .entry(8, 2) // STRING
+                .entry(9, 4) // FIELDREF
+                .entry(10, 4) // METHODREF
+                .entry(11, 4) // INTERFACEMETHODREF
+                .entry(12, 4) // NAMEANDTYPE
+                .entry(15, 3) // METHODHANDLE
+                .entry(16, 2) // METHODTYPE
+                .entry(17, 4) // DYNAMIC
+                .entry(18, 4) // INVOKEDYNAMIC
+                .entry(19, 2) // MODULE
+                .entry(20, 2) // PACKAGE
+                .utf8("Lcom/vaadin/flow/router/Other;");
+
+        assertFalse(SCANNER.isCandidate(builder.build(0)));
+        assertTrue(SCANNER.isCandidate(builder.utf8(ROUTE_DESCRIPTOR).build(0)));
+    }
+
+    @Test
+    public void testEightByteConstantsTakeTwoEntries() throws IOException {
+        // IF THE 8 BYTE CONSTANTS ONLY COUNTED AS ONE ENTRY, THE SCANNER WOULD READ BEYOND THE CONSTANT POOL
+        assertFalse(SCANNER.isCandidate(new ClassFileBuilder()
+                .entry(5, 8).slot() // LONG
+                .entry(6, 8).slot() // DOUBLE
+                .build(0)));
+        assertTrue(SCANNER.isCandidate(new ClassFileBuilder()
+                .entry(5, 8).slot() // LONG
+                .entry(6, 8).slot() // DOUBLE
+                .utf8(ROUTE_DESCRIPTOR)
+                .build(0)));
+    }
+
+    @Test
+    public void testUnknownTagIsCandidate() throws IOException {
+        assertTrue(SCANNER.isCandidate(new ClassFileBuilder()
+                .entry(2, 0)
+                .build(0)));
+    }
+
+    @Test
+    public void testSuperClassInBasePackageIsCandidate() throws IOException {
+        ClassFileBuilder builder = new ClassFileBuilder()
+                .utf8(BASE_PACKAGE.replace('.', '/') + "/BaseView") // #1
+                .classRef(1) // #2
+                .utf8("java/lang/Object") // #3
+                .classRef(3); // #4
+
+        assertTrue(SCANNER.isCandidate(builder.build(2)));
+        assertFalse(SCANNER.isCandidate(builder.build(4)));
+    }
+
+    @Test
+    public void testSuperClassOutsideOfBasePackageIsCandidate() throws IOException {
+        // A SUPER CLASS OF A LIBRARY MIGHT PASS ON AN INHERITED @Route JUST AS WELL
+        ClassFileBuilder builder = new ClassFileBuilder()
+                .utf8("com/example/library/LibraryView") // #1
+                .classRef(1) // #2
+                .utf8("com/vaadin/flow/component/html/Div") // #3
+                .classRef(3) // #4
+                .utf8("javax/swing/JPanel") // #5
+                .classRef(5) // #6
+                .utf8("com") // #7
+                .classRef(7); // #8
+
+        assertTrue(SCANNER.isCandidate(builder.build(2)));
+        assertFalse(SCANNER.isCandidate(builder.build(4)));
+        assertFalse(SCANNER.isCandidate(builder.build(6)));
+        assertTrue(SCANNER.isCandidate(builder.build(8)));
+    }
+
+    private static boolean isCandidate(Class<?> type) throws IOException {
+        try (InputStream classFile = getClassFile(type)) {
+            return SCANNER.isCandidate(classFile);
+        }
+    }
+
+    private static InputStream getClassFile(Class<?> type) {
+        return type.getResourceAsStream('/' + type.getName().replace('.', '/') + ".class");
+    }
+
+    private static final class ClassFileBuilder {
+
+        private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(this.pool);
+        private int count = 1;
+
+        private ClassFileBuilder entry(int tag, int length) throws IOException {
+            this.out.writeByte(tag);
+            this.out.write(new byte[length]);
+            this.count++;
+            return this;
+        }
+
+        private ClassFileBuilder slot() {
+            this.count++;
+            return this;
+        }
+
+        private ClassFileBuilder utf8(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.out.writeByte(1);
+            this.out.writeShort(bytes.length);
+            this.out.write(bytes);
+            this.count++;
+            return this;
+        }
+
+        private ClassFileBuilder classRef(int nameIndex) throws IOException {
+            this.out.writeByte(7);
+            this.out.writeShort(nameIndex);
+            this.count++;
+            return this;
+        }
+
+        private InputStream build(int superClassIndex) throws IOException {
+            ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(classFile);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            out.writeShort(this.count);
+            out.write(this.pool.toByteArray());
+            out.writeShort(0x0021);
+            out.writeShort(0);
+            out.writeShort(superClassIndex);
+            return new ByteArrayInputStream(classFile.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.mantledillusion.vaadin.cotton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CottonRouteIndexProcessorTest {
+
+    private static final String ROUTED_VIEW = "package com.example.app;\n" +
+            "@com.vaadin.flow.router.Route(\"main\")\n" +
+            "public class MainView extends com.vaadin.flow.component.html.Div {\n" +
+            "    public static class NestedView extends com.vaadin.flow.component.html.Div {}\n" +
+            "    @com.mantledillusion.vaadin.cotton.viewpresenter.Restricted\n" +
+            "    public static class RestrictedView extends com.vaadin.flow.component.html.Div {}\n" +
+            "}";
+    private static final String OTHER_VIEW = "package com.example.app;\n" +
+            "@com.vaadin.flow.router.RouteAlias(\"other\")\n" +
+            "public class OtherView extends com.vaadin.flow.component.html.Div {}";
+    private static final String INHERITING_VIEW = "package com.example.app;\n" +
+            "public class InheritingView extends MainView {}";
+    private static final String PLAIN_CLASS = "package com.example.app;\n" +
+            "public class Helper {}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testIndexesAnnotatedClasses() throws IOException {
+        assertTrue(compile(Collections.emptyList(), ROUTED_VIEW, PLAIN_CLASS));
+
+        assertEquals(Collections.singletonList("com.example.app.MainView"), readIndex());
+    }
+
+    @Test
+    public void testSkipsModuleWithoutRoutes() throws IOException {
+        assertTrue(compile(Collections.emptyList(), PLAIN_CLASS));
+
+        assertFalse(Files.exists(getIndex()));
+    }
+
+    @Test
+    public void testMergesPreviousIndex() throws IOException {
+        assertTrue(compile(Collections.emptyList(), ROUTED_VIEW));
+        Files.write(getIndex(), Arrays.asList("com.example.app.MainView", "com.example.app.DeletedView"),
+                StandardCharsets.UTF_8);
+
+        assertTrue(compile(Collections.emptyList(), OTHER_VIEW));
+
+        assertEquals(Arrays.asList("com.example.app.MainView", "com.example.app.OtherView"), readIndex());
+    }
+
+    @Test
+    public void testMarksInheritedRoutesIncomplete() throws IOException {
+        assertTrue(compile(Collections.emptyList(), ROUTED_VIEW));
+        assertFalse(readIndex().contains(CottonRouteIndexProcessor.INCOMPLETE_MARKER));
+
+        assertTrue(compile(Collections.emptyList(), INHERITING_VIEW));
+        assertEquals(Arrays.asList(CottonRouteIndexProcessor.INCOMPLETE_MARKER, "com.example.app.InheritingView",
+                "com.example.app.MainView"), readIndex());
+
+        // THE MARKER IS RETAINED BY FOLLOWING INCREMENTAL COMPILATIONS
+        assertTrue(compile(Collections.emptyList(), OTHER_VIEW));
+        assertTrue(readIndex().contains(CottonRouteIndexProcessor.INCOMPLETE_MARKER));
+    }
+
+    @Test
+    public void testDisabled() throws IOException {
+        assertTrue(compile(Collections.singletonList("-A" + CottonRouteIndexProcessor.OPTION_DISABLE + "=true"),
+                ROUTED_VIEW));
+
+        assertFalse(Files.exists(getIndex()));
+    }
+
+    private boolean compile(List<String> options, String... sources) throws IOException {
+        Path sourceDirectory = Files.createDirectories(this.directory.resolve("src"));
+        Path classDirectory = Files.createDirectories(this.directory.resolve("classes"));
+
+        List<Path> sourceFiles = new ArrayList<>();
+        for (String source: sources) {
+            String name = source.substring(source.indexOf("public class ") + 13, source.indexOf(' ', source.indexOf("public class ") + 13));
+            Path sourceFile = Files.createDirectories(sourceDirectory.resolve("com/example/app")).resolve(name + ".java");
+            Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(sourceFile);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(
+                    sourceFiles.stream().map(Path::toFile).collect(Collectors.toList()));
+
+            // CLASSES COMPILED BEFORE ARE ON THE CLASSPATH, JUST AS DURING AN INCREMENTAL COMPILATION
+            List<String> compilerOptions = new ArrayList<>(Arrays.asList("-d", classDirectory.toString(),
+                    "-classpath", classDirectory + File.pathSeparator + System.getProperty("java.class.path")));
+            compilerOptions.addAll(options);
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, compilerOptions,
+                    null, compilationUnits);
+            task.setProcessors(Collections.singletonList(new CottonRouteIndexProcessor()));
+            return task.call();
+        } finally {
+            for (Path sourceFile: sourceFiles) {
+                Files.delete(sourceFile);
+            }
+        }
+    }
+
+    private Path getIndex() {
+        return this.directory.resolve("classes").resolve(CottonRouteIndexProcessor.INDEX_LOCATION);
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(getIndex(), StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,50 @@
+package com.mantledillusion.vaadin.cotton;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CottonStartupProfileTest {
+
+    private static final String MS = "\\d+\\.\\dms";
+
+    @Test
+    public void testSummarizesTopLevelPhases() {
+        CottonStartupProfile profile = new CottonStartupProfile();
+        profile.phase(CottonStartupProfile.PHASE_INJECTOR, System.nanoTime());
+        profile.phase(CottonStartupProfile.PHASE_LOCALIZATION, System.nanoTime());
+        profile.count(CottonStartupProfile.COUNT_LOCALES, 2);
+
+        String summary = profile.summarize("TestServlet", TimeUnit.MILLISECONDS.toNanos(12));
+        assertTrue(summary.matches("Started TestServlet in 12\\.0ms; injector: " + MS + "; localization: " + MS
+                + "; locales: 2"), summary);
+    }
+
+    @Test
+    public void testNestsSubPhasesIntoTheirParent() {
+        CottonStartupProfile profile = new CottonStartupProfile();
+        long serviceBegin = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(20);
+        profile.phase(CottonStartupProfile.PHASE_ROUTE_DISCOVERY, CottonStartupProfile.PHASE_SERVICE,
+                System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+        profile.phase(CottonStartupProfile.PHASE_VIEW_PLANS, CottonStartupProfile.PHASE_SERVICE, System.nanoTime());
+        profile.phase(CottonStartupProfile.PHASE_SERVICE, serviceBegin);
+
+        String summary = profile.summarize("TestServlet", TimeUnit.MILLISECONDS.toNanos(30));
+        assertTrue(summary.matches("Started TestServlet in 30\\.0ms; service: " + MS + " \\(routeDiscovery: " + MS
+                + ", viewPlans: " + MS + "\\)"), summary);
+    }
+
+    @Test
+    public void testMergesRepeatedPhases() {
+        CottonStartupProfile profile = new CottonStartupProfile();
+        profile.phase(CottonStartupProfile.PHASE_VIEW_PLANS, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(3));
+        profile.phase(CottonStartupProfile.PHASE_VIEW_PLANS, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(4));
+
+        String summary = profile.summarize("TestServlet", TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(summary.matches("Started TestServlet in 10\\.0ms; viewPlans: " + MS), summary);
+        double viewPlans = Double.parseDouble(summary.replaceAll(".*viewPlans: (" + "\\d+\\.\\d" + ")ms", "$1"));
+        assertTrue(viewPlans >= 7, summary);
+    }
+}
@@ -0,0 +1,109 @@
+package com.mantledillusion.vaadin.cotton;
+
+import com.vaadin.flow.server.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RouteIndexTest {
+
+    private static final String BASE_PACKAGE = "com.example.app";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testReadsIndexesOfAllModules() throws IOException, ServiceException {
+        Path directoryModule = createDirectoryModule("a", "com.example.app.AView", "com.example.other.OtherView");
+        Path jarModule = createJarModule("b", "com.example.app.sub.BView");
+
+        Set<String> targets = new TreeSet<>();
+        assertTrue(read(targets, directoryModule, jarModule));
+        assertEquals(new TreeSet<>(Arrays.asList("com.example.app.AView", "com.example.app.sub.BView")), targets);
+    }
+
+    @Test
+    public void testModuleWithoutIndexIsIncomplete() throws IOException, ServiceException {
+        Path indexedModule = createDirectoryModule("a", "com.example.app.AView");
+        Path unindexedModule = createDirectoryModule("b", (String[]) null);
+
+        Set<String> targets = new TreeSet<>();
+        assertFalse(read(targets, indexedModule, unindexedModule));
+        assertEquals(Collections.singleton("com.example.app.AView"), targets);
+    }
+
+    @Test
+    public void testIndexMarkedIncompleteIsIncomplete() throws IOException, ServiceException {
+        Path module = createDirectoryModule("a", CottonRouteIndexProcessor.INCOMPLETE_MARKER, "com.example.app.AView");
+
+        Set<String> targets = new TreeSet<>();
+        assertFalse(read(targets, module));
+        assertEquals(Collections.singleton("com.example.app.AView"), targets);
+    }
+
+    @Test
+    public void testJarWithoutIndexIsIncomplete() throws IOException, ServiceException {
+        Path unindexedModule = createJarModule("a", (String[]) null);
+
+        assertFalse(read(new TreeSet<>(), unindexedModule));
+    }
+
+    @Test
+    public void testNoModuleIsIncomplete() throws IOException, ServiceException {
+        assertFalse(read(new TreeSet<>()));
+    }
+
+    private boolean read(Set<String> targets, Path... modules) throws IOException, ServiceException {
+        URL[] urls = new URL[modules.length];
+        for (int i = 0; i < modules.length; i++) {
+            urls[i] = modules[i].toUri().toURL();
+        }
+        try (URLClassLoader classLoader = new URLClassLoader(urls, null)) {
+            return CottonServletService.readRouteIndex(classLoader, BASE_PACKAGE, targets);
+        }
+    }
+
+    private Path createDirectoryModule(String name, String... indexedTargets) throws IOException {
+        Path module = Files.createDirectories(this.directory.resolve(name));
+        Files.createDirectories(module.resolve(BASE_PACKAGE.replace('.', '/')));
+        if (indexedTargets != null) {
+            Path index = module.resolve(CottonRouteIndexProcessor.INDEX_LOCATION);
+            Files.createDirectories(index.getParent());
+            Files.write(index, toIndex(indexedTargets));
+        }
+        return module;
+    }
+
+    private Path createJarModule(String name, String... indexedTargets) throws IOException {
+        Path module = this.directory.resolve(name + ".jar");
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(module.toFile()))) {
+            jar.putNextEntry(new JarEntry(BASE_PACKAGE.replace('.', '/') + '/'));
+            jar.closeEntry();
+            if (indexedTargets != null) {
+                jar.putNextEntry(new JarEntry(CottonRouteIndexProcessor.INDEX_LOCATION));
+                jar.write(toIndex(indexedTargets));
+                jar.closeEntry();
+            }
+        }
+        return module;
+    }
+
+    private static byte[] toIndex(String... targets) {
+        return ("# Index\n" + String.join("\n", targets) + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.mantledillusion.vaadin.cotton;
+
+import com.mantledillusion.vaadin.cotton.viewpresenter.Listen;
+import com.mantledillusion.vaadin.cotton.viewpresenter.Presentable;
+import com.mantledillusion.vaadin.cotton.viewpresenter.Presented;
+import com.mantledillusion.vaadin.cotton.viewpresenter.Presenter;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.html.Div;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrainingRunTest {
+
+    private static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+    private static final AtomicBoolean INSTANTIATED = new AtomicBoolean();
+
+    public static class TrainedView extends Div {
+
+        static {
+            INITIALIZED.set(true);
+        }
+
+        public TrainedView() {
+            INSTANTIATED.set(true);
+        }
+    }
+
+    public static class UninitializableView extends Div {
+
+        static {
+            if (Boolean.TRUE) {
+                throw new IllegalStateException("Unable to initialize");
+            }
+        }
+    }
+
+    public static class InvalidPresenter implements Presenter<InvalidView> {
+
+        @Listen("button")
+        public static void onClick() {}
+    }
+
+    @Presented(InvalidPresenter.class)
+    public static class InvalidView extends Div implements Presentable {}
+
+    @Test
+    public void testInitializesWithoutInstantiating() {
+        int initialized = CottonServletService.initializeViews(Collections.singleton(TrainedView.class),
+                TrainingRunTest.class.getClassLoader());
+
+        assertEquals(1, initialized);
+        assertTrue(INITIALIZED.get());
+        assertFalse(INSTANTIATED.get());
+    }
+
+    @Test
+    public void testSkipsUninitializableViews() {
+        int initialized = CottonServletService.initializeViews(Arrays.<Class<? extends Component>>asList(
+                UninitializableView.class, TrainedView.class), TrainingRunTest.class.getClassLoader());
+
+        assertEquals(1, initialized);
+    }
+
+    @Test
+    public void testSkipsViewsWithInvalidPresentation() {
+        assertFalse(CottonServletService.prepareView(InvalidView.class));
+
+        int initialized = CottonServletService.initializeViews(Arrays.<Class<? extends Component>>asList(
+                InvalidView.class, TrainedView.class), TrainingRunTest.class.getClassLoader());
+
+        assertEquals(1, initialized);
+    }
+}
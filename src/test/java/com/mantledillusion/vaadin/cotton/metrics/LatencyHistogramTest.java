@@ -0,0 +1,124 @@
+package com.mantledillusion.vaadin.cotton.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        for (long value = 0; value < 16; value++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE);
+            assertEquals(value, histogram.getPercentile(50));
+        }
+    }
+
+    @Test
+    public void testNegativeValuesAreRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testRelativeErrorIsBounded() {
+        List<Long> values = new ArrayList<>();
+        for (int bit = 0; bit < 62; bit++) {
+            long power = 1L << bit;
+            values.add(power - 1);
+            values.add(power);
+            values.add(power + 1);
+            values.add(power + power / 2);
+        }
+        values.add(Long.MAX_VALUE - 1);
+
+        for (long value: values) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE);
+
+            // THE VALUE IS READ BACK AS THE UPPER BOUND OF ITS BUCKET, WHICH IS AT MOST 1/8 WIDER THAN THE VALUE
+            long read = histogram.getPercentile(50);
+            assertTrue(read >= value, "Read " + read + " for " + value);
+            assertTrue(read - value <= value / 8, "Read " + read + " for " + value);
+        }
+    }
+
+    @Test
+    public void testPercentilesAreCappedByMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        assertEquals(1000, histogram.getMax());
+        assertEquals(1000, histogram.getPercentile(50));
+        assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testPercentileRanks() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100, histogram.getMax());
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(10, histogram.getPercentile(10));
+        assertBetween(50, 50 + 50 / 8, histogram.getPercentile(50));
+        assertBetween(99, 99 + 99 / 8, histogram.getPercentile(99));
+        assertEquals(100, histogram.getPercentile(100));
+
+        // OUT OF RANGE PERCENTILES ARE CLAMPED
+        assertEquals(1, histogram.getPercentile(-1));
+        assertEquals(100, histogram.getPercentile(101));
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                long offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (long value = 0; value < 10000; value++) {
+                        histogram.record(value * 4 + offset);
+                    }
+                }));
+            }
+            for (Future<?> future: futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(40000, histogram.getCount());
+        assertEquals(39999, histogram.getMax());
+        assertEquals(39999, histogram.getPercentile(100));
+    }
+
+    private static void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, "Expected " + actual + " in [" + min + ".." + max + "]");
+    }
+}
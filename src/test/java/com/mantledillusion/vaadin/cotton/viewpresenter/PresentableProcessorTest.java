@@ -0,0 +1,66 @@
+package com.mantledillusion.vaadin.cotton.viewpresenter;
+
+import com.mantledillusion.vaadin.cotton.exception.http900.Http904IllegalAnnotationUseException;
+import com.vaadin.flow.component.ClickEvent;
+import com.vaadin.flow.component.ComponentEvent;
+import com.vaadin.flow.component.html.Div;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PresentableProcessorTest {
+
+    public static class NotifyEvent extends ComponentEvent<Div> {
+
+        public NotifyEvent(Div source) {
+            super(source, false);
+        }
+    }
+
+    public static class ValidPresenter implements Presenter<ValidView> {
+
+        @Listen("button")
+        private void handleClick(ClickEvent<?> event) {}
+
+        @Listen(value = "button", extensions = NotifyEvent.class)
+        private void notifyClick() {}
+    }
+
+    @Presented(ValidPresenter.class)
+    public static class ValidView extends Div implements Presentable {}
+
+    public static class StaticPresenter implements Presenter<StaticView> {
+
+        @Listen("button")
+        private static void handleClick(ClickEvent<?> event) {}
+    }
+
+    @Presented(StaticPresenter.class)
+    public static class StaticView extends Div implements Presentable {}
+
+    public static class OverloadedPresenter implements Presenter<OverloadedView> {
+
+        @Listen("button")
+        private void handleClick(ClickEvent<?> event, String detail) {}
+    }
+
+    @Presented(OverloadedPresenter.class)
+    public static class OverloadedView extends Div implements Presentable {}
+
+    @Test
+    public void testPrepareValidListeners() {
+        assertDoesNotThrow(() -> Presentable.PresentableProcessor.prepare(ValidView.class));
+    }
+
+    @Test
+    public void testPrepareStaticListener() {
+        assertThrows(Http904IllegalAnnotationUseException.class,
+                () -> Presentable.PresentableProcessor.prepare(StaticView.class));
+    }
+
+    @Test
+    public void testPrepareListenerWithTooManyParameters() {
+        assertThrows(Http904IllegalAnnotationUseException.class,
+                () -> Presentable.PresentableProcessor.prepare(OverloadedView.class));
+    }
+}